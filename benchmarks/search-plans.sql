@@ -0,0 +1,135 @@
+-- Plan and latency comparison of the former catch-all task search predicates with the
+-- dynamically built ones (TaskSpecifications).
+--
+-- Usage (against a scratch database, schema created by the application with ddl-auto=update):
+--   psql -h localhost -U postgres -d task_manager_bench -v rows=3000000 -f benchmarks/search-plans.sql
+--
+-- Seeds 10k users and :rows tasks, then runs EXPLAIN (ANALYZE, BUFFERS) for each filter
+-- combination twice: "legacy" is the SQL Hibernate generated for the old JPQL, "dynamic" the
+-- SQL generated now. Compare the plan shape (Seq Scan vs Index/Bitmap Scan) and Execution Time.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 3000000
+\endif
+
+BEGIN;
+INSERT INTO status (id, name) VALUES (1001, 'BENCH_TODO'), (1002, 'BENCH_IN_PROGRESS'), (1003, 'BENCH_DONE')
+    ON CONFLICT DO NOTHING;
+INSERT INTO priority (id, name) VALUES (1001, 'BENCH_LOW'), (1002, 'BENCH_MEDIUM'), (1003, 'BENCH_HIGH')
+    ON CONFLICT DO NOTHING;
+
+CREATE TEMP TABLE bench_users AS
+SELECT gen_random_uuid() AS id, 'first' || (n % 2000) AS first_name, n
+FROM generate_series(1, 10000) AS n;
+
+INSERT INTO users (id, first_name, last_name, email, time_zone, is_deleted)
+SELECT id, first_name, 'bench', 'bench' || n || '@example.com', 'UTC', false FROM bench_users;
+
+INSERT INTO task (id, title, estimated_hours, created_at, expected_end_date_time, assigned_to, status_id, priority_id, is_deleted)
+SELECT nextval('task_seq'), 'bench task ' || n, 1.5,
+       now() - (n || ' seconds')::interval,
+       CASE WHEN n % 4 = 0 THEN NULL ELSE date_trunc('day', now()) + ((n % 90) || ' days')::interval END,
+       (SELECT id FROM bench_users WHERE bench_users.n = 1 + (g.n % 10000)),
+       1001 + (n % 3), 1001 + ((n / 3) % 3), n % 50 = 0
+FROM generate_series(1, :rows) AS g(n);
+COMMIT;
+ANALYZE users;
+ANALYZE task;
+
+SELECT id AS bench_user FROM bench_users WHERE n = 42 \gset
+
+\echo '=== search by user: legacy'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to JOIN status s ON s.id = t.status_id
+WHERE coalesce(:'bench_user'::uuid, t.assigned_to) = t.assigned_to
+  AND coalesce(NULL::varchar, u.first_name) = u.first_name
+  AND coalesce(NULL::timestamptz, t.expected_end_date_time) = t.expected_end_date_time
+  AND coalesce(NULL::varchar, s.name) = s.name
+  AND NOT t.is_deleted AND NOT u.is_deleted
+OFFSET 0 LIMIT 20;
+
+\echo '=== search by user: dynamic'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to JOIN status s ON s.id = t.status_id
+WHERE NOT t.is_deleted AND NOT u.is_deleted AND t.assigned_to = :'bench_user'
+OFFSET 0 LIMIT 20;
+
+\echo '=== search by first name: legacy'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to JOIN status s ON s.id = t.status_id
+WHERE coalesce(NULL::uuid, t.assigned_to) = t.assigned_to
+  AND coalesce('first42'::varchar, u.first_name) = u.first_name
+  AND coalesce(NULL::timestamptz, t.expected_end_date_time) = t.expected_end_date_time
+  AND coalesce(NULL::varchar, s.name) = s.name
+  AND NOT t.is_deleted AND NOT u.is_deleted
+OFFSET 0 LIMIT 20;
+
+\echo '=== search by first name: dynamic'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to JOIN status s ON s.id = t.status_id
+WHERE NOT t.is_deleted AND NOT u.is_deleted AND u.first_name = 'first42'
+OFFSET 0 LIMIT 20;
+
+\echo '=== count for search by user: legacy'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(t.id) FROM task t JOIN users u ON u.id = t.assigned_to JOIN status s ON s.id = t.status_id
+WHERE coalesce(:'bench_user'::uuid, t.assigned_to) = t.assigned_to
+  AND coalesce(NULL::varchar, u.first_name) = u.first_name
+  AND coalesce(NULL::timestamptz, t.expected_end_date_time) = t.expected_end_date_time
+  AND coalesce(NULL::varchar, s.name) = s.name
+  AND NOT t.is_deleted AND NOT u.is_deleted;
+
+\echo '=== count for search by user: dynamic'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(t.id) FROM task t JOIN users u ON u.id = t.assigned_to
+WHERE NOT t.is_deleted AND NOT u.is_deleted AND t.assigned_to = :'bench_user';
+
+\echo '=== filter by user and priority: legacy'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to JOIN status s ON s.id = t.status_id
+    JOIN priority p ON p.id = t.priority_id
+WHERE (:'bench_user'::uuid IS NULL OR t.assigned_to = :'bench_user'::uuid)
+  AND (NULL::varchar IS NULL OR s.name = NULL::varchar)
+  AND ('BENCH_HIGH'::varchar IS NULL OR p.name = 'BENCH_HIGH')
+  AND NOT t.is_deleted AND NOT u.is_deleted
+OFFSET 0 LIMIT 20;
+
+\echo '=== filter by user and priority: dynamic'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to JOIN priority p ON p.id = t.priority_id
+WHERE NOT t.is_deleted AND NOT u.is_deleted AND t.assigned_to = :'bench_user' AND p.name = 'BENCH_HIGH'
+OFFSET 0 LIMIT 20;
+
+-- The legacy plans above use literals, which lets the planner fold the COALESCE away in some
+-- cases. The application sends bind parameters; after five executions the JDBC driver switches
+-- to a server-side prepared statement and Postgres may settle on one generic plan for all
+-- filter combinations. Reproduce that with PREPARE and force_generic_plan:
+SET plan_cache_mode = force_generic_plan;
+PREPARE legacy_search(uuid, varchar, timestamptz, varchar) AS
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to JOIN status s ON s.id = t.status_id
+WHERE coalesce($1, t.assigned_to) = t.assigned_to
+  AND coalesce($2, u.first_name) = u.first_name
+  AND coalesce($3, t.expected_end_date_time) = t.expected_end_date_time
+  AND coalesce($4, s.name) = s.name
+  AND NOT t.is_deleted AND NOT u.is_deleted
+OFFSET 0 LIMIT 20;
+PREPARE dynamic_search_by_user(uuid) AS
+SELECT t.* FROM task t JOIN users u ON u.id = t.assigned_to
+WHERE NOT t.is_deleted AND NOT u.is_deleted AND t.assigned_to = $1
+OFFSET 0 LIMIT 20;
+
+\echo '=== generic plan, search by user: legacy'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE legacy_search(:'bench_user', NULL, NULL, NULL);
+\echo '=== generic plan, search by user: dynamic'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_search_by_user(:'bench_user');
+RESET plan_cache_mode;
+
+-- Clean up the seeded rows.
+BEGIN;
+DELETE FROM task WHERE status_id BETWEEN 1001 AND 1003;
+DELETE FROM users WHERE id IN (SELECT id FROM bench_users);
+DELETE FROM status WHERE id BETWEEN 1001 AND 1003;
+DELETE FROM priority WHERE id BETWEEN 1001 AND 1003;
+COMMIT;
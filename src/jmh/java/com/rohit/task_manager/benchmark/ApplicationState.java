@@ -0,0 +1,120 @@
+package com.rohit.task_manager.benchmark;
+
+import com.rohit.task_manager.TaskManagerApplication;
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.respository.*;
+import com.rohit.task_manager.service.ReferenceDataRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots the application without the web layer against an in-memory H2 database and seeds
+ * {@link #USERS} users with {@link #TASKS_PER_USER} tasks each. Redis is not used: every
+ * cache runs with its local tier only, as configured by default.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    static final int USERS = 50;
+    static final int TASKS_PER_USER = 200;
+    static final int STORIES = 500;
+
+    ConfigurableApplicationContext context;
+    CacheManager cacheManager;
+    User user;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = boot(WebApplicationType.NONE);
+        cacheManager = context.getBean(CacheManager.class);
+        user = seed(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    void clearCache(String name) {
+        cacheManager.getCache(name).clear();
+    }
+
+    /**
+     * Starts the application on H2. The settings are applied as system properties only when
+     * absent, so a run can point at another database with e.g.
+     * {@code -jvmArgsAppend "-Dspring.datasource.url=jdbc:postgresql://... -Dspring.datasource.driver-class-name=..."}.
+     */
+    static ConfigurableApplicationContext boot(WebApplicationType type, String... args) {
+        Map<String, String> defaults = Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name", "org.h2.Driver",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto", "create-drop",
+                "spring.jpa.show-sql", "false",
+                "logging.level.root", "warn");
+        defaults.forEach(System.getProperties()::putIfAbsent);
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(type)
+                .run(args);
+    }
+
+    /**
+     * Seeds reference data, users, stories and tasks and returns the first user.
+     */
+    static User seed(ConfigurableApplicationContext context) {
+        StatusRepository statuses = context.getBean(StatusRepository.class);
+        PriorityRepository priorities = context.getBean(PriorityRepository.class);
+        UserRepository users = context.getBean(UserRepository.class);
+        StoryRepository stories = context.getBean(StoryRepository.class);
+        TaskRepository tasks = context.getBean(TaskRepository.class);
+
+        List<Status> statusList = statuses.saveAll(List.of(new Status("TODO"), new Status("IN_PROGRESS"), new Status("DONE")));
+        List<Priority> priorityList = priorities.saveAll(List.of(new Priority("LOW"), new Priority("MEDIUM"), new Priority("HIGH")));
+
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userList.add(User.builder().firstName("First" + i).lastName("Last" + i)
+                    .email("user" + i + "@example.com").timeZone("UTC").build());
+        }
+        userList = users.saveAll(userList);
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        List<Story> storyList = new ArrayList<>();
+        for (int i = 0; i < STORIES; i++) {
+            storyList.add(Story.builder().title("Story " + i).description("Benchmark story " + i).storyPoints(3)
+                    .status(statusList.get(i % 3)).priority(priorityList.get((i / 3) % 3))
+                    .assignedTo(userList.get(i % USERS)).createdAt(now.minusSeconds(i))
+                    .expectedStartDateTime(now.plus(i, ChronoUnit.HOURS))
+                    .expectedEndDateTime(now.plus(i + 48, ChronoUnit.HOURS)).build());
+        }
+        storyList = stories.saveAll(storyList);
+
+        List<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < USERS * TASKS_PER_USER; i++) {
+            taskList.add(Task.builder().title("Task " + i).estimatedHours(BigDecimal.valueOf(i % 8 + 1))
+                    .assignedTo(userList.get(i % USERS)).status(statusList.get(i % 3))
+                    .priority(priorityList.get((i / 3) % 3)).story(storyList.get(i % STORIES))
+                    .createdAt(now.minusSeconds(i)).build());
+        }
+        tasks.saveAll(taskList);
+
+        context.getBean(ReferenceDataRegistry.class).refresh();
+        return userList.get(0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.rohit.task_manager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rohit.task_manager.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a {@code Page<Task>} as returned by the search and filter
+ * endpoints, for several page sizes. No Spring context is needed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100", "500"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Task> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Status status = new Status(1L, "IN_PROGRESS");
+        Priority priority = new Priority(1L, "HIGH");
+        User user = User.builder().id(UUID.randomUUID()).firstName("Rohit").lastName("Sharma")
+                .email("rohit@example.com").timeZone("Asia/Kolkata").build();
+        Instant now = Instant.now();
+        List<Task> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            tasks.add(Task.builder().id((long) i).title("Task " + i).estimatedHours(BigDecimal.valueOf(2.5))
+                    .assignedTo(user).status(status).priority(priority).createdAt(now.minusSeconds(i))
+                    .expectedStartDateTime(now).expectedEndDateTime(now.plusSeconds(86_400)).build());
+        }
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
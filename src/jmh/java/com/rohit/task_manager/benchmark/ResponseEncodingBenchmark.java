@@ -0,0 +1,105 @@
+package com.rohit.task_manager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rohit.task_manager.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode time of a {@code Page<Task>} in each response encoding the API negotiates: JSON,
+ * gzip-compressed JSON (as Tomcat compresses it), CBOR and Smile. The payload size of each
+ * combination is reported as the {@code encode:payloadBytes} secondary result, next to the
+ * throughput and allocation figures.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseEncodingBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    public String encoding;
+
+    private ObjectMapper objectMapper;
+    private boolean gzip;
+    private Page<Task> page;
+
+    /**
+     * Encoded size of the page, kept from the last call and reported by JMH as an event count
+     * rather than a rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = switch (encoding) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        gzip = encoding.endsWith("-gzip");
+        page = page(pageSize);
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws IOException {
+        byte[] encoded = encodePage();
+        payload.payloadBytes = encoded.length;
+        return encoded;
+    }
+
+    private byte[] encodePage() throws IOException {
+        if (!gzip) {
+            return objectMapper.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Page<Task> page(int size) {
+        Status status = new Status(1L, "IN_PROGRESS");
+        Priority priority = new Priority(1L, "HIGH");
+        Instant now = Instant.now();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(User.builder().id(UUID.randomUUID()).firstName("User" + i).lastName("Sharma")
+                    .email("user" + i + "@example.com").timeZone("Asia/Kolkata").build());
+        }
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder().id((long) i).title("Task " + i).estimatedHours(BigDecimal.valueOf(2.5))
+                    .assignedTo(users.get(i % users.size())).status(status).priority(priority).version(0L)
+                    .createdAt(now.minusSeconds(i)).expectedStartDateTime(now)
+                    .expectedEndDateTime(now.plusSeconds(86_400)).build());
+        }
+        return new PageImpl<>(tasks, PageRequest.of(0, size), 10_000);
+    }
+}
@@ -0,0 +1,70 @@
+package com.rohit.task_manager.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the Redis-backed HTTP session on the REST API. Clients send a
+ * {@code SESSION} cookie, as a browser that once received one would; with
+ * {@code task-manager.api.stateless=false} every request then looks the session up in Redis,
+ * with {@code true} it is never read. The stateful variant needs Redis on localhost:6379.
+ * Run with {@code -Djmh.args="StatelessApiBenchmark"}, or {@code -p stateless=true} without Redis.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(StatelessApiBenchmark.CLIENTS)
+@State(Scope.Benchmark)
+public class StatelessApiBenchmark {
+
+    static final int CLIENTS = 50;
+
+    @Param({"true", "false"})
+    public boolean stateless;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI userStories;
+    private String sessionCookie;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = ApplicationState.boot(WebApplicationType.SERVLET,
+                "--server.port=0",
+                "--task-manager.api.stateless=" + stateless);
+        UUID userId = ApplicationState.seed(context).getId();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        userStories = URI.create("http://localhost:" + port + "/api/v1/stories/" + userId + "?size=20");
+        sessionCookie = "SESSION=" + Base64.getEncoder().encodeToString(UUID.randomUUID().toString().getBytes());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int storiesForUser() throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(userStories)
+                        .header("Cookie", sessionCookie).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + userStories + " returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,43 @@
+package com.rohit.task_manager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rohit.task_manager.service.StoryService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StoryService#getActiveStories} including the JSON rendering, since the zone
+ * projection only happens while the response is written.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoryServiceBenchmark {
+
+    @Param({"UTC", "Asia/Kolkata", "America/New_York"})
+    public String timeZone;
+
+    private StoryService storyService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        storyService = application.context.getBean(StoryService.class);
+        objectMapper = application.context.getBean(ObjectMapper.class);
+    }
+
+    @Benchmark
+    public byte[] activeStoriesHit() throws Exception {
+        return objectMapper.writeValueAsBytes(storyService.getActiveStories(timeZone).body());
+    }
+
+    @Benchmark
+    public byte[] activeStoriesMiss(ApplicationState application) throws Exception {
+        application.clearCache("activeStoriesCache");
+        return objectMapper.writeValueAsBytes(storyService.getActiveStories(timeZone).body());
+    }
+}
@@ -0,0 +1,69 @@
+package com.rohit.task_manager.benchmark;
+
+import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService#searchTasks} and {@link TaskService#filterTasks} through the caching
+ * proxy. The miss variants clear the cache before each call, so they measure the query plus
+ * the cache write; clearing an almost empty local cache is negligible next to the query.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private TaskService taskService;
+    private UUID userId;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        taskService = application.context.getBean(TaskService.class);
+        userId = application.user.getId();
+        pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @Benchmark
+    public Page<Task> searchTasksHit() {
+        return taskService.searchTasks(userId, null, null, "TODO", pageable);
+    }
+
+    @Benchmark
+    public Page<Task> searchTasksMiss(ApplicationState application) {
+        application.clearCache("searchTasksCache");
+        return taskService.searchTasks(userId, null, null, "TODO", pageable);
+    }
+
+    @Benchmark
+    public Page<Task> filterTasksHit() {
+        return taskService.filterTasks(null, "TODO", "HIGH", pageable);
+    }
+
+    @Benchmark
+    public Page<Task> filterTasksMiss(ApplicationState application) {
+        application.clearCache("filterTasksCache");
+        return taskService.filterTasks(null, "TODO", "HIGH", pageable);
+    }
+
+    /**
+     * Same page without the count query ({@code total=none}).
+     */
+    @Benchmark
+    public Slice<Task> filterTaskSliceMiss(ApplicationState application) {
+        application.clearCache("filterTasksCache");
+        return taskService.filterTaskSlice(null, "TODO", "HIGH", pageable);
+    }
+}
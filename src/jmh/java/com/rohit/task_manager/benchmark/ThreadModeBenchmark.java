@@ -0,0 +1,86 @@
+package com.rohit.task_manager.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load comparison of request handling on Tomcat platform threads versus virtual threads
+ * ({@code spring.threads.virtual.enabled}). {@link #CLIENTS} JMH threads call the running server
+ * over HTTP; the score is throughput and, in sample mode, the latency distribution (p99).
+ * Run with {@code -Djmh.args="ThreadModeBenchmark"}; against H2 the database is rarely the
+ * bottleneck, so point it at Postgres (see {@link ApplicationState#boot}) for representative
+ * numbers.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(ThreadModeBenchmark.CLIENTS)
+@State(Scope.Benchmark)
+public class ThreadModeBenchmark {
+
+    static final int CLIENTS = 400;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    /**
+     * Tomcat worker threads in platform mode (Spring Boot default 200).
+     */
+    @Param({"200"})
+    public int maxPlatformThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI filterSummaries;
+    private URI userStories;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = ApplicationState.boot(WebApplicationType.SERVLET,
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(threads),
+                "--server.tomcat.threads.max=" + maxPlatformThreads,
+                "--server.tomcat.accept-count=" + CLIENTS);
+        UUID userId = ApplicationState.seed(context).getId();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        filterSummaries = URI.create("http://localhost:" + port + "/api/v1/tasks/filter/summary?status=TODO&size=20");
+        userStories = URI.create("http://localhost:" + port + "/api/v1/stories/" + userId + "?size=20");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int filterTaskSummaries() throws Exception {
+        return send(filterSummaries);
+    }
+
+    @Benchmark
+    public int storiesForUser() throws Exception {
+        return send(userStories);
+    }
+
+    private int send(URI uri) throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
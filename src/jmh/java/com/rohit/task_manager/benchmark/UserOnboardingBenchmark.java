@@ -0,0 +1,57 @@
+package com.rohit.task_manager.benchmark;
+
+import com.rohit.task_manager.dto.input.UserCreateRequest;
+import com.rohit.task_manager.dto.output.UserDto;
+import com.rohit.task_manager.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk user onboarding through {@link UserService#createUser}: every call registers a new email,
+ * as an import would. With {@code emailFilter=false} each insert is preceded by a duplicate-email
+ * query (the previous behaviour); with {@code true} the Bloom filter answers it in memory and
+ * only the insert reaches the database. Run with {@code -Djmh.args="UserOnboardingBenchmark"};
+ * the saved round trip is larger against Postgres than against embedded H2.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class UserOnboardingBenchmark {
+
+    @Param({"false", "true"})
+    public boolean emailFilter;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = ApplicationState.boot(WebApplicationType.NONE,
+                "--task-manager.users.email-filter.enabled=" + emailFilter);
+        ApplicationState.seed(context);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDto createUser() {
+        long n = sequence.incrementAndGet();
+        return userService.createUser(UserCreateRequest.builder()
+                .firstName("First" + n).lastName("Last" + n)
+                .email("onboarded" + n + "@example.com").timeZone("UTC")
+                .build());
+    }
+}
@@ -0,0 +1,91 @@
+package com.rohit.task_manager.cache;
+
+import com.rohit.task_manager.domain.Priority;
+import com.rohit.task_manager.domain.Status;
+import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.domain.User;
+import com.rohit.task_manager.dto.output.ResultPage;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Builds entity tags from the values a response is made of (ids, versions, timestamps), so that
+ * a conditional GET can be answered without serializing the body. The parts are folded into a
+ * 64-bit FNV-1a hash.
+ * <p>
+ * The tags are weak: the same content is sent gzip-compressed or not and as JSON, CBOR or Smile,
+ * and Tomcat does not compress responses that carry a strong tag. If-None-Match uses the weak
+ * comparison, so conditional GETs are unaffected.
+ */
+public final class ETag {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    public static String of(Object... parts) {
+        ETag tag = new ETag();
+        for (Object part : parts) {
+            tag.add(part);
+        }
+        return tag.toString();
+    }
+
+    /**
+     * Tag of a page of tasks. A task's version changes with every update, including the
+     * bulk ones, so ids and versions identify the task's own columns. The embedded assignee,
+     * status and priority are serialized too but have no version, so their fields are hashed.
+     */
+    public static String of(Page<Task> page) {
+        return new ETag().add(page.getNumber()).add(page.getSize()).add(page.getTotalElements())
+                .addTasks(page.getContent()).toString();
+    }
+
+    /**
+     * Tag of a page of tasks with an explicitly requested total, which is part of the content.
+     */
+    public static String of(ResultPage<Task> page) {
+        return new ETag().add(page.getNumber()).add(page.getSize()).add(page.isHasNext())
+                .add(page.getTotalElements()).add(page.getTotal()).addTasks(page.getContent()).toString();
+    }
+
+    public ETag add(Object part) {
+        String value = String.valueOf(part);
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * PRIME;
+        }
+        // separator, so that ("ab", "c") and ("a", "bc") differ
+        hash = (hash ^ 0x1f) * PRIME;
+        return this;
+    }
+
+    private ETag addTasks(List<Task> tasks) {
+        for (Task task : tasks) {
+            add(task.getId()).add(task.getVersion());
+            User user = task.getAssignedTo();
+            if (user != null) {
+                add(user.getId()).add(user.getFirstName()).add(user.getMiddleName()).add(user.getLastName())
+                        .add(user.getEmail()).add(user.getTimeZone()).add(user.isDeleted());
+            }
+            Status status = task.getStatus();
+            if (status != null) {
+                add(status.getId()).add(status.getName()).add(status.getDescription());
+            }
+            Priority priority = task.getPriority();
+            if (priority != null) {
+                add(priority.getId()).add(priority.getName()).add(priority.getDescription());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the weak tag, e.g. {@code W/"3f2a..."}
+     */
+    @Override
+    public String toString() {
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
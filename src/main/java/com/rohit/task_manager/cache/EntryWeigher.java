@@ -0,0 +1,28 @@
+package com.rohit.task_manager.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.rohit.task_manager.dto.output.Tagged;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+
+/**
+ * Weighs cached pages and lists by the number of rows they hold, so that a cache bound
+ * limits the number of entities kept on the heap rather than the number of keys.
+ */
+public class EntryWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof Tagged<?> tagged) {
+            return weigh(key, tagged.body());
+        }
+        if (value instanceof Slice<?> slice) {
+            return Math.max(1, slice.getNumberOfElements());
+        }
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+}
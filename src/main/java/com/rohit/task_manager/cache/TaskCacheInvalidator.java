@@ -0,0 +1,164 @@
+package com.rohit.task_manager.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evicts only the cached task pages a mutation can affect. A page is affected when the task,
+ * before or after the change, satisfies every filter of the page's {@link TaskQueryKey}.
+ * The number of evicted entries is published as the {@code task.cache.invalidations} counter,
+ * tagged by cache and mutation.
+ * <p>
+ * Only the local tier can be searched for matching keys. The shared (Redis) tier also holds
+ * pages written by other instances and pages that already left the local tier, so a cache with
+ * a shared tier has that tier cleared as a whole; those clears are counted by
+ * {@code task.cache.remote.clears}.
+ */
+@Component
+@Log4j2
+public class TaskCacheInvalidator {
+
+    public static final List<String> TASK_CACHES = List.of("searchTasksCache", "filterTasksCache", "taskTotalsCache");
+
+    public enum Mutation {
+        CREATE, STATUS_CHANGE, DELETE
+    }
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    public TaskCacheInvalidator(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param states the task as it was before and/or after the mutation
+     * @return the number of evicted entries across the task caches
+     */
+    public int onTaskChanged(Mutation mutation, TaskDimensions... states) {
+        return onTasksChanged(mutation, Arrays.stream(states).filter(s -> s != null).toList());
+    }
+
+    /**
+     * Bulk variant of {@link #onTaskChanged}: scans each cache once for all the given task states.
+     * Inside a transaction the eviction is deferred until after commit (and 0 is returned), so a
+     * concurrent read cannot put the not yet committed state back into the cache.
+     */
+    public int onTasksChanged(Mutation mutation, Collection<TaskDimensions> affected) {
+        if (affected.isEmpty()) {
+            return 0;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<TaskDimensions> states = List.copyOf(affected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(mutation, states);
+                }
+            });
+            return 0;
+        }
+        return evict(mutation, affected);
+    }
+
+    /**
+     * Evicts every cached task page, for mutations whose affected tasks are not known
+     * individually. Deferred until after commit like {@link #onTasksChanged}.
+     */
+    public void invalidateAll(Mutation mutation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear(mutation);
+                }
+            });
+            return;
+        }
+        clear(mutation);
+    }
+
+    private void clear(Mutation mutation) {
+        for (String cacheName : TASK_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("{} cleared the task caches", mutation);
+    }
+
+    private int evict(Mutation mutation, Collection<TaskDimensions> affected) {
+        int total = 0;
+        for (String cacheName : TASK_CACHES) {
+            int evicted = evictMatching(cacheManager.getCache(cacheName), mutation, affected);
+            counter(cacheName, mutation).increment(evicted);
+            total += evicted;
+        }
+        log.debug("{} invalidated {} cached task pages", mutation, total);
+        return total;
+    }
+
+    private int evictMatching(Cache cache, Mutation mutation, Collection<TaskDimensions> affected) {
+        if (cache == null) {
+            return 0;
+        }
+        if (!(cache instanceof TieredCache tiered)) {
+            return clearCounting(cache);
+        }
+        int evicted = 0;
+        for (Object key : tiered.getNativeCache().asMap().keySet()) {
+            if (!(key instanceof TaskQueryKey queryKey) || affected.stream().anyMatch(state -> state.matches(queryKey))) {
+                tiered.evictLocal(key);
+                evicted++;
+            }
+        }
+        if (tiered.hasRemoteTier()) {
+            tiered.clearRemote();
+            remoteClears(cache.getName(), mutation).increment();
+        }
+        return evicted;
+    }
+
+    /**
+     * Clears a cache that cannot be searched, counting the entries it held where the native
+     * cache tells.
+     */
+    private static int clearCounting(Cache cache) {
+        long size = switch (cache.getNativeCache()) {
+            case com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine -> caffeine.estimatedSize();
+            case Map<?, ?> map -> map.size();
+            default -> 0;
+        };
+        cache.clear();
+        return (int) size;
+    }
+
+    private Counter remoteClears(String cacheName, Mutation mutation) {
+        return Counter.builder("task.cache.remote.clears")
+                .description("Shared cache tiers cleared by task mutations")
+                .tag("cache", cacheName)
+                .tag("mutation", mutation.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String cacheName, Mutation mutation) {
+        return Counter.builder("task.cache.invalidations")
+                .description("Cached task pages evicted by task mutations")
+                .tag("cache", cacheName)
+                .tag("mutation", mutation.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.rohit.task_manager.cache;
+
+import com.rohit.task_manager.domain.Task;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The values of a task that cached search/filter pages can be keyed on.
+ */
+public record TaskDimensions(UUID userId, String firstName, Instant expectedEnd, String status, String priority) {
+
+    public static TaskDimensions of(Task task) {
+        return new TaskDimensions(
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getAssignedTo() != null ? task.getAssignedTo().getFirstName() : null,
+                task.getExpectedEndDateTime(),
+                task.getStatus() != null ? task.getStatus().getName() : null,
+                task.getPriority() != null ? task.getPriority().getName() : null);
+    }
+
+    public TaskDimensions withStatus(String status) {
+        return new TaskDimensions(userId, firstName, expectedEnd, status, priority);
+    }
+
+    boolean matches(TaskQueryKey key) {
+        return (key.userId() == null || key.userId().equals(userId))
+                && (key.firstName() == null || key.firstName().equals(firstName))
+                && (key.expectedEnd() == null || key.expectedEnd().equals(expectedEnd))
+                && (key.status() == null || Objects.equals(key.status(), status))
+                && (key.priority() == null || Objects.equals(key.priority(), priority));
+    }
+}
@@ -0,0 +1,46 @@
+package com.rohit.task_manager.cache;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Cache key of a task search/filter page. Besides identifying the page, the filter fields
+ * tag the entry with the dimensions it depends on, so a task mutation only evicts the pages
+ * whose filters the task matches (see {@link TaskCacheInvalidator}). A {@code slice} key holds
+ * the page without its total.
+ */
+public record TaskQueryKey(UUID userId, String firstName, Instant expectedEnd, String status, String priority,
+                           int page, int size, Sort sort, boolean slice) implements Serializable {
+
+    public static TaskQueryKey search(UUID userId, String firstName, Instant expectedEnd, String status, Pageable pageable) {
+        return new TaskQueryKey(userId, firstName, expectedEnd, status, null,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), false);
+    }
+
+    public static TaskQueryKey filter(UUID userId, String status, String priority, Pageable pageable) {
+        return new TaskQueryKey(userId, null, null, status, priority,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), false);
+    }
+
+    public TaskQueryKey asSlice() {
+        return new TaskQueryKey(userId, firstName, expectedEnd, status, priority, page, size, sort, true);
+    }
+
+    /**
+     * Key of the number of tasks matching the filters, whatever the page.
+     */
+    public TaskQueryKey forTotal() {
+        return new TaskQueryKey(userId, firstName, expectedEnd, status, priority, 0, 0, Sort.unsorted(), false);
+    }
+
+    /**
+     * @return whether every live task matches
+     */
+    public boolean isUnfiltered() {
+        return userId == null && firstName == null && expectedEnd == null && status == null && priority == null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.rohit.task_manager.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-level {@link Cache}: a bounded Caffeine map in front of an optional shared (Redis) cache.
+ * Reads are served from the local tier first; a remote hit is promoted into the local tier.
+ * Writes and evictions go to both tiers.
+ * <p>
+ * {@link #get(Object, Callable)} runs the loader outside of any map lock (concurrent callers for
+ * the same key wait on a future instead), so a virtual thread blocked on JDBC inside a loader
+ * is never pinned to its carrier by the cache. An eviction or clear that arrives while a load is
+ * running marks that load stale, and its value is then not cached: it may have been read before
+ * the change that caused the eviction.
+ */
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final ConcurrentMap<Object, Load> loading = new ConcurrentHashMap<>();
+    private final AtomicLong clears = new AtomicLong();
+
+    public TieredCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> local, Cache remote) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return local;
+    }
+
+    public boolean hasRemoteTier() {
+        return remote != null;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null || remote == null) {
+            return value;
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        local.put(key, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+        Load load = new Load(clears.get());
+        Load inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            try {
+                return (T) inFlight.result.join();
+            } catch (CompletionException ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+            }
+        }
+        try {
+            T loaded = valueLoader.call();
+            if (!load.isStale()) {
+                put(key, loaded);
+                if (load.isStale()) {
+                    // evicted while the value was being written: take it out again
+                    local.invalidate(key);
+                    if (remote != null) {
+                        remote.evict(key);
+                    }
+                }
+            }
+            load.result.complete(loaded);
+            return loaded;
+        } catch (Exception ex) {
+            load.result.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(key, value);
+        if (remote != null) {
+            remote.put(key, value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidateLoad(key);
+        local.invalidate(key);
+        if (remote != null) {
+            remote.evict(key);
+        }
+    }
+
+    /**
+     * Evicts {@code key} from the local tier only.
+     */
+    public void evictLocal(Object key) {
+        invalidateLoad(key);
+        local.invalidate(key);
+    }
+
+    /**
+     * Clears the shared tier only; a no-op without one.
+     */
+    public void clearRemote() {
+        if (remote != null) {
+            clears.incrementAndGet();
+            remote.clear();
+        }
+    }
+
+    @Override
+    public void clear() {
+        clears.incrementAndGet();
+        local.invalidateAll();
+        if (remote != null) {
+            remote.clear();
+        }
+    }
+
+    private void invalidateLoad(Object key) {
+        Load load = loading.get(key);
+        if (load != null) {
+            load.invalidated = true;
+        }
+    }
+
+    /**
+     * A running {@link #get(Object, Callable)} load; stale once its key was evicted or the cache
+     * cleared after it started.
+     */
+    private final class Load {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final long clearsAtStart;
+        private volatile boolean invalidated;
+
+        private Load(long clearsAtStart) {
+            this.clearsAtStart = clearsAtStart;
+        }
+
+        private boolean isStale() {
+            return invalidated || clears.get() != clearsAtStart;
+        }
+    }
+}
@@ -1,14 +1,82 @@
 package com.rohit.task_manager.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rohit.task_manager.cache.EntryWeigher;
+import com.rohit.task_manager.cache.TieredCache;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
+@Log4j2
+@EnableConfigurationProperties(TieredCacheProperties.class)
 public class CacheConfig {
+
+    static final List<String> CACHE_NAMES = List.of("searchTasksCache", "filterTasksCache", "activeStoriesCache",
+            "usersCache", "missingUsersCache", "taskTotalsCache", "storyTotalsCache");
+
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("searchTasksCache", "filterTasksCache", "activeStoriesCache");
+    public CacheManager cacheManager(TieredCacheProperties properties,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        Map<String, TieredCacheProperties.Spec> specs = new LinkedHashMap<>();
+        CACHE_NAMES.forEach(name -> specs.put(name, new TieredCacheProperties.Spec()));
+        specs.putAll(properties.getSpecs());
+
+        RedisCacheManager redisCacheManager = null;
+        RedisConnectionFactory connectionFactory = redisConnectionFactory.getIfAvailable();
+        if (connectionFactory != null && specs.values().stream().anyMatch(TieredCacheProperties.Spec::isRedis)) {
+            redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                    .cacheDefaults(redisCacheConfiguration)
+                    .build();
+        }
+
+        List<Cache> caches = new ArrayList<>();
+        for (Map.Entry<String, TieredCacheProperties.Spec> entry : specs.entrySet()) {
+            String name = entry.getKey();
+            TieredCacheProperties.Spec spec = entry.getValue();
+            Cache remote = (spec.isRedis() && redisCacheManager != null) ? redisCacheManager.getCache(name) : null;
+            caches.add(new TieredCache(name, buildLocalCache(spec), remote));
+            log.info("Configured cache '{}' (maximumWeight={}, expireAfterWrite={}, expireAfterAccess={}, redis={})",
+                    name, spec.getMaximumWeight(), spec.getExpireAfterWrite(), spec.getExpireAfterAccess(), remote != null);
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TieredCache> tieredCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildLocalCache(TieredCacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumWeight(spec.getMaximumWeight())
+                .weigher(new EntryWeigher())
+                .recordStats();
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return builder.build();
     }
 }
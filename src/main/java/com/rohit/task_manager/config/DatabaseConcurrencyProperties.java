@@ -0,0 +1,25 @@
+package com.rohit.task_manager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits for the database permit gate used in virtual-thread mode, bound from
+ * {@code task-manager.datasource} in application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "task-manager.datasource")
+public class DatabaseConcurrencyProperties {
+
+    /**
+     * Maximum number of connections checked out at once from each pool. Defaults to the pool's Hikari size.
+     */
+    private Integer maxConcurrency;
+
+    /**
+     * How long a request waits for a permit before failing.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,43 @@
+package com.rohit.task_manager.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Applies {@code db/full-text-search.sql} (generated {@code tsvector} columns and their GIN
+ * indexes) once Hibernate has created or updated the tables. The columns are not mapped on the
+ * entities, so the script only runs on Postgres; other databases (H2 in tests) keep the plain schema.
+ */
+@Component
+@Log4j2
+public class FullTextSearchSchema {
+
+    static final String SCRIPT = "db/full-text-search.sql";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    public FullTextSearchSchema(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void apply() {
+        var dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        if (!(dialect instanceof PostgreSQLDialect)) {
+            log.info("Skipping full-text search schema on {}", dialect.getClass().getSimpleName());
+            return;
+        }
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+        log.info("Full-text search columns and indexes are in place");
+    }
+}
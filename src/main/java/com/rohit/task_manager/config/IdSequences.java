@@ -0,0 +1,44 @@
+package com.rohit.task_manager.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Applies {@code db/id-sequences.sql} once Hibernate has created or updated the tables, so that
+ * the {@code task_seq} / {@code story_seq} sequences added to an existing database never hand out
+ * ids its IDENTITY columns already used. Postgres only; the other databases (H2 in tests) are
+ * always created empty.
+ */
+@Component
+@Log4j2
+public class IdSequences {
+
+    static final String SCRIPT = "db/id-sequences.sql";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    public IdSequences(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void align() {
+        var dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        if (!(dialect instanceof PostgreSQLDialect)) {
+            log.info("Skipping id sequence alignment on {}", dialect.getClass().getSimpleName());
+            return;
+        }
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+        log.info("Id sequences are past the existing ids");
+    }
+}
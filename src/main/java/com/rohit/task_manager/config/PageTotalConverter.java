@@ -0,0 +1,19 @@
+package com.rohit.task_manager.config;
+
+import com.rohit.task_manager.dto.input.PageTotal;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Binds the {@code total} request parameter case-insensitively ({@code total=approximate}).
+ */
+@Component
+public class PageTotalConverter implements Converter<String, PageTotal> {
+
+    @Override
+    public PageTotal convert(String source) {
+        return PageTotal.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,132 @@
+package com.rohit.task_manager.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The replica's connection pool together with its replication lag, polled every
+ * {@code task-manager.datasource.replica.lag-check-interval}. Read-only connections come from the
+ * replica unless the current thread is pinned to the primary (a client that just wrote), the
+ * replica is further behind than {@code max-lag}, or it cannot be reached; in those cases they
+ * come from the primary, and {@link #getReads} counts each outcome.
+ */
+@Log4j2
+public class ReadReplica implements AutoCloseable {
+
+    public enum Route { REPLICA, PINNED, FALLBACK }
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final DataSource pool;
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Map<Route, LongAdder> reads = new EnumMap<>(Route.class);
+    /** Last measured lag; {@code null} until the first check and while the replica is unreachable. */
+    private volatile Duration lag;
+
+    public ReadReplica(DataSource pool, String lagQuery, Duration maxLag) {
+        this.pool = pool;
+        this.jdbcTemplate = new JdbcTemplate(pool);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        for (Route route : Route.values()) {
+            reads.put(route, new LongAdder());
+        }
+    }
+
+    /**
+     * Sends the read-only connections of the current thread to the primary until {@link #unpin()}.
+     */
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * A connection for a read-only transaction, from the replica when it is usable and from
+     * {@code primary} otherwise.
+     */
+    public Connection getConnection(DataSource primary) throws SQLException {
+        if (isPinnedToPrimary()) {
+            return route(Route.PINNED, primary);
+        }
+        if (!isUsable()) {
+            return route(Route.FALLBACK, primary);
+        }
+        try {
+            return route(Route.REPLICA, pool);
+        } catch (SQLException | RuntimeException ex) {
+            // until the next check finds it back
+            lag = null;
+            log.warn("No connection from the read replica, reading from the primary: {}", ex.getMessage());
+            return route(Route.FALLBACK, primary);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task-manager.datasource.replica.lag-check-interval:PT1S}")
+    public void checkLag() {
+        boolean wasUsable = isUsable();
+        try {
+            Double seconds = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            lag = seconds == null ? null : Duration.ofMillis(Math.round(seconds * 1000));
+        } catch (DataAccessException ex) {
+            lag = null;
+            if (wasUsable) {
+                log.warn("Read replica unreachable, reading from the primary: {}", ex.getMessage());
+            }
+            return;
+        }
+        if (wasUsable && !isUsable()) {
+            log.warn("Read replica is {} behind (more than {}), reading from the primary", lag, maxLag);
+        } else if (!wasUsable && isUsable()) {
+            log.info("Read replica in use, {} behind", lag);
+        }
+    }
+
+    public boolean isUsable() {
+        Duration current = lag;
+        return current != null && current.compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * The lag found by the last check, {@code null} when it is not known.
+     */
+    public Duration getLag() {
+        return lag;
+    }
+
+    public long getReads(Route route) {
+        return reads.get(route).sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (pool instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection route(Route route, DataSource dataSource) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        reads.get(route).increment();
+        return connection;
+    }
+}
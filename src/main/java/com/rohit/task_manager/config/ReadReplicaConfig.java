@@ -0,0 +1,104 @@
+package com.rohit.task_manager.config;
+
+import com.rohit.task_manager.config.ReadReplica.Route;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.Locale;
+
+/**
+ * Active when {@code task-manager.datasource.replica.url} is set: the application's
+ * {@code DataSource} becomes a {@link ReplicaRoutingDataSource} over the primary pool (configured
+ * from {@code spring.datasource} as usual) and a pool on the replica, and
+ * {@link ReadYourWritesFilter} keeps clients that just wrote on the primary. Both pools are beans
+ * of their own, not injected by type, so that in virtual-thread mode each gets a permit gate of
+ * its own size.
+ */
+@Configuration
+@Log4j2
+@ConditionalOnProperty(prefix = "task-manager.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource replicaDataSource(ReplicaProperties replica, DataSourceProperties primary) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica");
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : primary.determineUsername());
+        pool.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+        pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+        pool.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        // start even if the replica is down; reads use the primary until it is back
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        // what DataSourceAutoConfiguration would have built, had the routing data source not replaced it
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (StringUtils.hasText(properties.getName())) {
+            primary.setPoolName(properties.getName());
+        }
+        return primary;
+    }
+
+    @Bean
+    public ReadReplica readReplica(ReplicaProperties replica, @Qualifier("replicaDataSource") DataSource pool) {
+        log.info("Routing read-only transactions to the replica at {} (max lag {}, stickiness {})",
+                replica.getUrl(), replica.getMaxLag(), replica.getStickiness());
+        return new ReadReplica(pool, replica.getLagQuery(), replica.getMaxLag());
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                               ReadReplica readReplica) {
+        return new ReplicaRoutingDataSource(primary, readReplica);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties replica) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(replica.getStickiness(), Clock.systemUTC()));
+        registration.addUrlPatterns("/api/v1/*");
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReadReplica readReplica) {
+        return registry -> {
+            Gauge.builder("db.replica.lag", readReplica,
+                            replica -> replica.getLag() == null ? Double.NaN : replica.getLag().toMillis() / 1000.0)
+                    .description("Replication lag of the read replica at the last check, NaN when unreachable")
+                    .baseUnit("seconds")
+                    .register(registry);
+            for (Route route : Route.values()) {
+                FunctionCounter.builder("db.replica.reads", readReplica, replica -> replica.getReads(route))
+                        .description("Read-only connections by where they were served from")
+                        .tag("route", route.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.rohit.task_manager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Read replica settings, bound from {@code task-manager.datasource.replica} in application.yml.
+ * Replica routing is only set up when {@code url} is given.
+ */
+@Data
+@ConfigurationProperties(prefix = "task-manager.datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * Replication delay in seconds, 0 on a server that is not a standby or has replayed all it received.
+     */
+    static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END""";
+
+    /**
+     * JDBC URL of the replica.
+     */
+    private String url;
+
+    /**
+     * Defaults to {@code spring.datasource.username}.
+     */
+    private String username;
+
+    /**
+     * Defaults to {@code spring.datasource.password}.
+     */
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    /**
+     * How long a read waits for a replica connection before it is sent to the primary instead.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Reads go to the primary while the replica is further behind than this, or unreachable.
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * Query returning the replica's lag in seconds.
+     */
+    private String lagQuery = POSTGRES_LAG_QUERY;
+
+    /**
+     * How long the reads of a client that wrote stay on the primary, so that it sees its own
+     * writes. Should not be shorter than {@code max-lag}.
+     */
+    private Duration stickiness = Duration.ofSeconds(5);
+}
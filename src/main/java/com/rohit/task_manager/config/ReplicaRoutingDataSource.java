@@ -0,0 +1,43 @@
+package com.rohit.task_manager.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the {@link ReadReplica} and everything
+ * else to the primary. The physical connection is only fetched when the first statement runs,
+ * by which time the transaction manager has marked the connection read-only or not, so that
+ * flag picks the database.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReadReplica replica) {
+        super(primary);
+        this.primary = primary;
+        setReadOnlyDataSource(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return replica.getConnection(primary);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLFeatureNotSupportedException("Read-only connections use the configured credentials");
+            }
+        });
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
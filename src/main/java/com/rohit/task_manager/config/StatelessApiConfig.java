@@ -0,0 +1,28 @@
+package com.rohit.task_manager.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+/**
+ * Stateless mode of the REST API ({@code task-manager.api.stateless}, on by default): requests
+ * under {@code /api/v1/} skip Spring Session entirely, so Redis is only used for caching.
+ * Other paths keep the Redis-backed session for whatever may need one.
+ */
+@Configuration
+@Log4j2
+@ConditionalOnProperty(prefix = "task-manager.api", name = "stateless", havingValue = "true", matchIfMissing = true)
+public class StatelessApiConfig {
+
+    @Bean
+    public FilterRegistrationBean<StatelessApiFilter> statelessApiFilter() {
+        log.info("Stateless API: no HTTP sessions for /api/v1/**");
+        FilterRegistrationBean<StatelessApiFilter> registration = new FilterRegistrationBean<>(new StatelessApiFilter());
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,57 @@
+package com.rohit.task_manager.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Runs the request without an HTTP session. Registered ahead of Spring Session's
+ * {@link SessionRepositoryFilter}, it marks that filter as already applied, so a request that
+ * carries a session cookie does not cost a Redis lookup (Spring MVC asks for the session on
+ * every request to read flash attributes). {@code getSession(false)} returns {@code null} and
+ * creating a session fails, instead of silently falling back to Tomcat's in-memory sessions.
+ */
+public class StatelessApiFilter extends OncePerRequestFilter {
+
+    static final String SESSION_FILTER_APPLIED =
+            SessionRepositoryFilter.class.getName() + SessionRepositoryFilter.ALREADY_FILTERED_SUFFIX;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        request.setAttribute(SESSION_FILTER_APPLIED, Boolean.TRUE);
+        chain.doFilter(new StatelessRequest(request), response);
+    }
+
+    private static class StatelessRequest extends HttpServletRequestWrapper {
+
+        StatelessRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            if (create) {
+                throw new IllegalStateException("Sessions are disabled for the stateless API");
+            }
+            return null;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.rohit.task_manager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache settings for the in-process (Caffeine) tier and the optional Redis tier,
+ * bound from {@code task-manager.cache.specs.<cacheName>} in application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "task-manager.cache")
+public class TieredCacheProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+
+        /**
+         * Upper bound of the summed entry weights. A cached page or list weighs as many
+         * units as the rows it holds, any other value weighs one unit.
+         */
+        private long maximumWeight = 10_000;
+
+        private Duration expireAfterWrite;
+
+        private Duration expireAfterAccess;
+
+        /**
+         * Whether entries are also written to Redis, using the TTL from {@link RedisConfig}.
+         */
+        private boolean redis = false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.rohit.task_manager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled=true}: Spring Boot then serves requests
+ * (and runs scheduled jobs) on virtual threads, and this configuration puts a
+ * {@link ConcurrencyLimitingDataSource} in front of each connection pool. The
+ * {@link ReplicaRoutingDataSource} is left alone: the primary and replica pools behind it are
+ * beans themselves and are gated separately, each to its own size.
+ */
+@Configuration
+@Log4j2
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(DatabaseConcurrencyProperties.class)
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            ObjectProvider<DatabaseConcurrencyProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource
+                        || bean instanceof ReplicaRoutingDataSource) {
+                    return bean;
+                }
+                DatabaseConcurrencyProperties limits = properties.getObject();
+                int maxConcurrency = limits.getMaxConcurrency() != null ? limits.getMaxConcurrency()
+                        : dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize()
+                        : DEFAULT_MAX_CONCURRENCY;
+                log.info("Virtual threads enabled: limiting '{}' to {} concurrent connections", beanName, maxConcurrency);
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, limits.getAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databasePermitMetrics(ListableBeanFactory beanFactory) {
+        return registry -> beanFactory.getBeansOfType(DataSource.class).forEach((name, bean) -> {
+            if (!(bean instanceof ConcurrencyLimitingDataSource dataSource)) {
+                return;
+            }
+            Gauge.builder("db.permits.available", dataSource, ConcurrencyLimitingDataSource::getAvailablePermits)
+                    .description("Database permits not currently in use")
+                    .tag("datasource", name)
+                    .register(registry);
+            Gauge.builder("db.permits.waiting", dataSource, ConcurrencyLimitingDataSource::getWaitingThreads)
+                    .description("Threads waiting for a database permit")
+                    .tag("datasource", name)
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.rohit.task_manager.controller;
+
+import com.rohit.task_manager.dto.output.ReferenceDataDto;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
+import com.rohit.task_manager.service.ReferenceDataRegistry;
+import com.rohit.task_manager.service.SoftDeleteService;
+import com.rohit.task_manager.service.StoryProgressService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin")
+@Log4j2
+@Tag(name = "Administration", description = "Operational APIs")
+public class AdminController {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final StoryProgressService storyProgressService;
+    private final SoftDeleteService softDeleteService;
+
+    @Operation(
+            summary = "Reload reference data",
+            description = "Reloads the in-memory status and priority tables from the database and returns the loaded rows."
+    )
+    @PostMapping("/reference-data/refresh")
+    public ResponseEntity<ReferenceDataDto> refreshReferenceData() {
+        log.info("Refreshing reference data");
+        referenceDataRegistry.refresh();
+        return ResponseEntity.ok(new ReferenceDataDto(referenceDataRegistry.getStatuses(), referenceDataRegistry.getPriorities()));
+    }
+
+    @Operation(
+            summary = "Rebuild story progress",
+            description = "Recomputes the per-story task counts and hours from the task table. Done at startup when there "
+                    + "are none yet; the rollups are maintained incrementally afterwards, so this is for repairs."
+    )
+    @PostMapping("/story-progress/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildStoryProgress() {
+        log.info("Rebuilding story progress rollups");
+        return ResponseEntity.ok(Map.of("rollups", storyProgressService.rebuild()));
+    }
+
+    @Operation(
+            summary = "Cascade earlier soft deletes",
+            description = "Soft deletes the live stories and tasks of users and stories that were deleted before deletes "
+                    + "cascaded, then rebuilds story progress. Also run at startup."
+    )
+    @PostMapping("/soft-delete/backfill")
+    public ResponseEntity<SoftDeleteResultDto> backfillSoftDeletes() {
+        log.info("Cascading earlier soft deletes");
+        return ResponseEntity.ok(softDeleteService.deleteOrphans());
+    }
+}
@@ -1,7 +1,15 @@
 package com.rohit.task_manager.controller;
 
 import com.rohit.task_manager.domain.Story;
+import com.rohit.task_manager.dto.input.PageTotal;
 import com.rohit.task_manager.dto.input.StoryRequestDto;
+import com.rohit.task_manager.dto.output.ResultPage;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
+import com.rohit.task_manager.dto.output.StoryProgressDto;
+import com.rohit.task_manager.dto.output.Tagged;
+import com.rohit.task_manager.dto.output.ZonedActiveStoryDto;
+import com.rohit.task_manager.service.SoftDeleteService;
+import com.rohit.task_manager.service.StoryProgressService;
 import com.rohit.task_manager.service.StoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,10 +34,15 @@ import java.util.UUID;
 public class StoryController {
 
     private final StoryService storyService;
+    private final StoryProgressService storyProgressService;
+    private final SoftDeleteService softDeleteService;
 
     @Autowired
-    public StoryController(StoryService storyService) {
+    public StoryController(StoryService storyService, StoryProgressService storyProgressService,
+                           SoftDeleteService softDeleteService) {
         this.storyService = storyService;
+        this.storyProgressService = storyProgressService;
+        this.softDeleteService = softDeleteService;
     }
 
     @Operation(
@@ -46,27 +59,61 @@ public class StoryController {
 
     @Operation(
             summary = "Fetch stories for a user",
-            description = "Retrieves paginated list of stories created by a given user. Results are sorted by creation timestamp in descending order by default."
+            description = "Retrieves paginated list of stories created by a given user. Results are sorted by creation timestamp in descending order by default. "
+                    + TaskController.TOTAL_DESCRIPTION
     )
     @GetMapping("/stories/{userId}")
-    public ResponseEntity<Page<Story>> getStoriesForUser(
+    public ResponseEntity<?> getStoriesForUser(
             @PathVariable UUID userId,
+            @RequestParam(required = false) PageTotal total,
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Fetching stories for userId: {} with pageSize: {}", userId, pageable.getPageSize());
+        log.info("Fetching stories for userId: {} with pageSize: {}, total={}", userId, pageable.getPageSize(), total);
+        if (total != null) {
+            return ResponseEntity.ok(switch (total) {
+                case EXACT -> ResultPage.of(storyService.getStoriesByUser(userId, pageable));
+                case APPROXIMATE -> ResultPage.of(storyService.getStorySliceByUser(userId, pageable),
+                        storyService.approximateStoryTotal(userId));
+                case NONE -> ResultPage.of(storyService.getStorySliceByUser(userId, pageable), null);
+            });
+        }
         Page<Story> stories = storyService.getStoriesByUser(userId, pageable);
         log.debug("Fetched {} stories for userId {}", stories.getTotalElements(), userId);
         return ResponseEntity.ok(stories);
     }
 
+    @Operation(
+            summary = "Get story progress",
+            description = "Returns the number of live tasks per status and the total and remaining (not DONE) estimated hours "
+                    + "of a story. Served from incrementally maintained rollups, without reading the story's tasks."
+    )
+    @GetMapping("/stories/{id}/progress")
+    public ResponseEntity<StoryProgressDto> getStoryProgress(@PathVariable Long id) {
+        log.info("Fetching progress for storyId: {}", id);
+        return ResponseEntity.ok(storyProgressService.getProgress(id));
+    }
+
     @Operation(
             summary = "Get active stories",
-            description = "Fetches all currently active stories based on the provided time zone. Active stories are those within their display duration window."
+            description = "Fetches all currently active stories with their timestamps expressed in the provided time zone (e.g. Asia/Kolkata). Active stories are those within their display duration window. "
+                    + "Each story is a flat object: status and priority by name, the assignee as assignedToId, assignedToFirstName and assignedToLastName, no child tasks. "
+                    + "The response carries an ETag; polls sending it back as If-None-Match get 304 Not Modified while the stories are unchanged."
     )
     @GetMapping("/stories/active")
-    public ResponseEntity<List<Story>> getActiveStories(@RequestParam String timeZone) {
+    public ResponseEntity<List<ZonedActiveStoryDto>> getActiveStories(@RequestParam String timeZone) {
         log.info("Fetching active stories for timezone: {}", timeZone);
-        List<Story> stories = storyService.getActiveStories(timeZone);
-        log.debug("Fetched {} active stories", stories.size());
-        return ResponseEntity.ok(stories);
+        Tagged<List<ZonedActiveStoryDto>> stories = storyService.getActiveStories(timeZone);
+        log.debug("Fetched {} active stories", stories.body().size());
+        return ResponseEntity.ok().eTag(stories.eTag()).body(stories.body());
+    }
+
+    @Operation(
+            summary = "Soft delete stories in bulk",
+            description = "Soft deletes up to 1000 stories together with their tasks. Returns how many stories and tasks "
+                    + "were deleted; unknown ids are ignored."
+    )
+    @DeleteMapping("/stories")
+    public ResponseEntity<SoftDeleteResultDto> deleteStories(@RequestParam List<Long> ids) {
+        log.info("Deleting (soft) {} stories", ids.size());
+        return ResponseEntity.ok(softDeleteService.deleteStories(ids));
     }
 }
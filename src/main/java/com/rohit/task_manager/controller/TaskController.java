@@ -1,8 +1,23 @@
 package com.rohit.task_manager.controller;
 
+import com.rohit.task_manager.cache.ETag;
 import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.dto.input.BulkTaskStatusRequest;
+import com.rohit.task_manager.dto.input.PageTotal;
+import com.rohit.task_manager.dto.input.TaskCursor;
 import com.rohit.task_manager.dto.input.TaskRequestDto;
 import com.rohit.task_manager.dto.input.UpdateTaskStatusRequest;
+import com.rohit.task_manager.dto.output.BatchTaskResultDto;
+import com.rohit.task_manager.dto.output.BulkTaskStatusResultDto;
+import com.rohit.task_manager.dto.output.CursorPage;
+import com.rohit.task_manager.dto.output.ResultPage;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
+import com.rohit.task_manager.dto.output.TaskSummaryDto;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.service.SoftDeleteService;
+import com.rohit.task_manager.service.TaskBatchService;
+import com.rohit.task_manager.service.TaskEventBroadcaster;
+import com.rohit.task_manager.service.TaskExportService;
 import com.rohit.task_manager.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,11 +25,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -24,7 +45,16 @@ import java.util.UUID;
 @Tag(name = "Task Management", description = "APIs for managing tasks")
 public class TaskController {
 
+    static final String TOTAL_DESCRIPTION = "Without total the response is a Page with an exact count. With total=exact, "
+            + "approximate or none it is a page whose total field tells how totalElements was obtained: counted (exact), "
+            + "from a count cached for up to 30 seconds or the planner's estimate for an unfiltered listing (approximate), "
+            + "or not at all (none, no count query; hasNext comes from fetching one extra row).";
+
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final TaskExportService taskExportService;
+    private final SoftDeleteService softDeleteService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
 
     @Operation(
             summary = "Create a new task",
@@ -38,54 +68,254 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Creates up to 1000 tasks in one request using batched inserts. Each item is validated on its own; "
+                    + "the response reports the created task ID or the rejection reason for every item, by position."
+    )
+    @PostMapping("/tasks/batch")
+    public ResponseEntity<BatchTaskResultDto> createTasks(@RequestBody List<TaskRequestDto> dtos) {
+        log.info("Received request to create {} tasks", dtos.size());
+        BatchTaskResultDto result = taskBatchService.createTasks(dtos);
+        log.info("Batch task creation finished: created={}, rejected={}", result.getCreated(), result.getRejected());
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(
             summary = "Update task status",
-            description = "Updates the status of an existing task using the task ID and new status."
+            description = "Updates the status of an existing task using the task ID and new status. The update only "
+                    + "applies if the status has not changed concurrently, and is retried a few times otherwise (409 when "
+                    + "it keeps changing). Send the task's version as If-Match (e.g. \"3\") to update only that version "
+                    + "(412 otherwise); the response carries the new version as ETag."
     )
     @PutMapping("/tasks/{id}/status")
     public ResponseEntity<Task> updateTaskStatus(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UpdateTaskStatusRequest request) {
         log.info("Updating task status for taskId={}, newStatusId={}", id, request.getStatusId());
-        Task updatedTask = taskService.updateTaskStatus(id, request.getStatusId());
+        Task updatedTask = taskService.updateTaskStatus(id, request.getStatusId(), expectedVersion(ifMatch));
         log.info("Task status updated successfully for taskId={}", id);
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok().eTag(String.valueOf(updatedTask.getVersion())).body(updatedTask);
+    }
+
+    /**
+     * Reads the version out of an If-Match header such as {@code "3"} or {@code W/"3"}; a missing
+     * header or {@code *} means any version.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match must be a task version such as \"3\"");
+        }
+    }
+
+    @Operation(
+            summary = "Update the status of many tasks",
+            description = "Moves the tasks listed in taskIds and/or matching userId, storyId and currentStatus to statusId "
+                    + "with one set-based update. Reports the changed ids, the ids that already had the status, and the "
+                    + "rejected ids with the reason (missing expected dates for IN_PROGRESS, unknown or deleted task). "
+                    + "At most 10000 tasks: a longer id list, or a filter matching more tasks, is rejected with 400 and nothing changes."
+    )
+    @PutMapping("/tasks/status")
+    public ResponseEntity<BulkTaskStatusResultDto> updateTaskStatuses(@RequestBody BulkTaskStatusRequest request) {
+        log.info("Received bulk status update to statusId={}", request.getStatusId());
+        BulkTaskStatusResultDto result = taskService.updateTaskStatuses(request);
+        log.info("Bulk status update finished: changed={}, rejected={}", result.getChanged().size(),
+                result.getRejected().size());
+        return ResponseEntity.ok(result);
     }
 
     @Operation(
             summary = "Search tasks by filters",
-            description = "Search for tasks based on optional user ID, user first name, expected end date, and status."
+            description = "Search for tasks based on optional user ID, user first name, expected end date, and status. "
+                    + TOTAL_DESCRIPTION
     )
     @GetMapping("/tasks/search")
-    public ResponseEntity<Page<Task>> searchTasks(
+    public ResponseEntity<?> searchTasks(
             @RequestParam(required = false) UUID userId,
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) Instant expectedEnd,
             @RequestParam(required = false) String status,
+            @RequestParam(required = false) PageTotal total,
             Pageable pageable) {
-        log.info("Searching tasks with userId={}, firstName={}, expectedEnd={}, status={}",
-                userId, firstName, expectedEnd, status);
+        log.info("Searching tasks with userId={}, firstName={}, expectedEnd={}, status={}, total={}",
+                userId, firstName, expectedEnd, status, total);
+        if (total != null) {
+            return ResponseEntity.ok(switch (total) {
+                case EXACT -> ResultPage.of(taskService.searchTasks(userId, firstName, expectedEnd, status, pageable));
+                case APPROXIMATE -> ResultPage.of(taskService.searchTaskSlice(userId, firstName, expectedEnd, status, pageable),
+                        taskService.approximateSearchTotal(userId, firstName, expectedEnd, status));
+                case NONE -> ResultPage.of(taskService.searchTaskSlice(userId, firstName, expectedEnd, status, pageable), null);
+            });
+        }
         Page<Task> result = taskService.searchTasks(userId, firstName, expectedEnd, status, pageable);
         log.info("Found {} tasks matching search criteria", result.getTotalElements());
         return ResponseEntity.ok(result);
     }
 
+    @Operation(
+            summary = "Full-text search of tasks",
+            description = "Searches task titles and the descriptions of their stories. Supports quoted phrases, \"or\" "
+                    + "and -excluded words; results are ranked by relevance (title matches first), so the sort parameter is ignored."
+    )
+    @GetMapping("/tasks/search/text")
+    public ResponseEntity<Page<Task>> searchTasksByText(@RequestParam String q, Pageable pageable) {
+        log.info("Full-text search of tasks with q={}", q);
+        Page<Task> result = taskService.searchTasksByText(q, pageable);
+        log.info("Found {} tasks matching q={}", result.getTotalElements(), q);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(
             summary = "Filter tasks",
-            description = "Filter tasks using optional user ID, status, and priority."
+            description = "Filter tasks using optional user ID, status, and priority. The response carries an ETag built "
+                    + "from the ids and versions of the page's tasks; sending it back as If-None-Match returns 304 Not "
+                    + "Modified while the page is unchanged. " + TOTAL_DESCRIPTION
     )
     @GetMapping("/tasks/filter")
-    public ResponseEntity<Page<Task>> filterTasks(
+    public ResponseEntity<?> filterTasks(
             @RequestParam(required = false) UUID userId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String priority,
+            @RequestParam(required = false) PageTotal total,
             Pageable pageable) {
-        log.info("Filtering tasks with userId={}, status={}, priority={}", userId, status, priority);
+        log.info("Filtering tasks with userId={}, status={}, priority={}, total={}", userId, status, priority, total);
+        if (total != null) {
+            ResultPage<Task> page = switch (total) {
+                case EXACT -> ResultPage.of(taskService.filterTasks(userId, status, priority, pageable));
+                case APPROXIMATE -> ResultPage.of(taskService.filterTaskSlice(userId, status, priority, pageable),
+                        taskService.approximateFilterTotal(userId, status, priority));
+                case NONE -> ResultPage.of(taskService.filterTaskSlice(userId, status, priority, pageable), null);
+            };
+            return ResponseEntity.ok().eTag(ETag.of(page)).body(page);
+        }
         Page<Task> result = taskService.filterTasks(userId, status, priority, pageable);
         log.info("Found {} tasks matching filter criteria", result.getTotalElements());
+        return ResponseEntity.ok().eTag(ETag.of(result)).body(result);
+    }
+
+    @Operation(
+            summary = "Search task summaries",
+            description = "Same filters as /tasks/search, returning flat task summaries (names and ids instead of nested "
+                    + "user, status, priority and story objects)."
+    )
+    @GetMapping("/tasks/search/summary")
+    public ResponseEntity<Page<TaskSummaryDto>> searchTaskSummaries(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) Instant expectedEnd,
+            @RequestParam(required = false) String status,
+            Pageable pageable) {
+        log.info("Searching task summaries with userId={}, firstName={}, expectedEnd={}, status={}",
+                userId, firstName, expectedEnd, status);
+        Page<TaskSummaryDto> result = taskService.searchTaskSummaries(userId, firstName, expectedEnd, status, pageable);
+        log.info("Found {} task summaries matching search criteria", result.getTotalElements());
         return ResponseEntity.ok(result);
     }
 
+    @Operation(
+            summary = "Filter task summaries",
+            description = "Same filters as /tasks/filter, returning flat task summaries (names and ids instead of nested "
+                    + "user, status, priority and story objects)."
+    )
+    @GetMapping("/tasks/filter/summary")
+    public ResponseEntity<Page<TaskSummaryDto>> filterTaskSummaries(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            Pageable pageable) {
+        log.info("Filtering task summaries with userId={}, status={}, priority={}", userId, status, priority);
+        Page<TaskSummaryDto> result = taskService.filterTaskSummaries(userId, status, priority, pageable);
+        log.info("Found {} task summaries matching filter criteria", result.getTotalElements());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(
+            summary = "Search tasks with a cursor",
+            description = "Same filters as /tasks/search, ordered by newest first. Pass the returned nextCursor to fetch the "
+                    + "following page; no total count is computed."
+    )
+    @GetMapping("/tasks/search/cursor")
+    public ResponseEntity<CursorPage<Task>> searchTasksByCursor(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) Instant expectedEnd,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Cursor search of tasks with userId={}, firstName={}, expectedEnd={}, status={}",
+                userId, firstName, expectedEnd, status);
+        CursorPage<Task> result = taskService.searchTasksAfter(userId, firstName, expectedEnd, status,
+                TaskCursor.decode(cursor), size);
+        log.info("Found {} tasks, hasNext={}", result.getSize(), result.getNextCursor() != null);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(
+            summary = "Filter tasks with a cursor",
+            description = "Same filters as /tasks/filter, ordered by newest first. Pass the returned nextCursor to fetch the "
+                    + "following page; no total count is computed."
+    )
+    @GetMapping("/tasks/filter/cursor")
+    public ResponseEntity<CursorPage<Task>> filterTasksByCursor(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Cursor filter of tasks with userId={}, status={}, priority={}", userId, status, priority);
+        CursorPage<Task> result = taskService.filterTasksAfter(userId, status, priority, TaskCursor.decode(cursor), size);
+        log.info("Found {} tasks, hasNext={}", result.getSize(), result.getNextCursor() != null);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(
+            summary = "Export tasks",
+            description = "Streams every task matching the /tasks/filter criteria, newest first, as NDJSON (one summary "
+                    + "object per line) or CSV with a header row. Intended for reporting jobs instead of paging through /tasks/filter."
+    )
+    @GetMapping("/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportService.Format exportFormat = TaskExportService.Format.of(format);
+        log.info("Exporting tasks as {} with userId={}, status={}, priority={}", exportFormat, userId, status, priority);
+        StreamingResponseBody body = out -> taskExportService.exportTasks(userId, status, priority, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getExtension()).build().toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Stream task changes",
+            description = "Server-sent events for tasks created (create), moved to another status (status-change) and "
+                    + "deleted (delete), sent once committed, instead of polling /tasks/filter. Optional user ID, status "
+                    + "and priority narrow the stream; a status change matches both the status it left and the one it "
+                    + "entered. A client that falls too far behind receives a dropped event and is disconnected, and "
+                    + "should reload its tasks after reconnecting."
+    )
+    @GetMapping(path = "/tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority) {
+        log.info("Opening task stream with userId={}, status={}, priority={}", userId, status, priority);
+        return taskEventBroadcaster.subscribe(new TaskEventBroadcaster.Filter(userId, status, priority));
+    }
+
     @Operation(
             summary = "Soft delete a task",
             description = "Marks a task as deleted (soft delete) based on its ID."
@@ -97,4 +327,15 @@ public class TaskController {
         log.info("Task with ID={} soft-deleted successfully", id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Soft delete tasks in bulk",
+            description = "Soft deletes up to 1000 tasks with a single update and returns how many were deleted; "
+                    + "unknown and already deleted ids are ignored."
+    )
+    @DeleteMapping("/tasks")
+    public ResponseEntity<SoftDeleteResultDto> deleteTasks(@RequestParam List<Long> ids) {
+        log.info("Received request to delete {} tasks", ids.size());
+        return ResponseEntity.ok(softDeleteService.deleteTasks(ids));
+    }
 }
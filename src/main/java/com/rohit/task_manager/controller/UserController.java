@@ -1,7 +1,10 @@
 package com.rohit.task_manager.controller;
 
+import com.rohit.task_manager.cache.ETag;
 import com.rohit.task_manager.dto.input.UserCreateRequest;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
 import com.rohit.task_manager.dto.output.UserDto;
+import com.rohit.task_manager.service.SoftDeleteService;
 import com.rohit.task_manager.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -20,10 +24,12 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final SoftDeleteService softDeleteService;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, SoftDeleteService softDeleteService) {
         this.userService = userService;
+        this.softDeleteService = softDeleteService;
     }
 
     @Operation(
@@ -43,20 +49,24 @@ public class UserController {
     @Operation(
             summary = "Fetch user by ID",
             description = "Retrieves the details of a specific user using their UUID. "
-                    + "Returns the user data if the user exists and is not soft-deleted."
+                    + "Returns the user data if the user exists and is not soft-deleted. The response carries an ETag; "
+                    + "sending it back as If-None-Match returns 304 Not Modified while the user is unchanged."
     )
     @GetMapping("/users/{id}")
     public ResponseEntity<UserDto> getUser(@PathVariable UUID id) {
         log.info("Fetching user with ID: {}", id);
         UserDto user = userService.getUserById(id);
         log.info("Fetched user: {}", user.getEmail());
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok()
+                .eTag(ETag.of(user.getId(), user.getFirstName(), user.getMiddleName(), user.getLastName(),
+                        user.getEmail(), user.getTimeZone()))
+                .body(user);
     }
 
     @Operation(
             summary = "Soft delete a user",
-            description = "Performs a soft delete on the user by marking them as inactive. "
-                    + "The user is not permanently removed from the database."
+            description = "Performs a soft delete on the user by marking them as inactive, together with their stories "
+                    + "and tasks. The user is not permanently removed from the database."
     )
     @DeleteMapping("/users/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable UUID id) {
@@ -65,4 +75,15 @@ public class UserController {
         log.info("User soft deleted: {}", id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Soft delete users in bulk",
+            description = "Soft deletes up to 1000 users together with their stories and tasks, using a few set-based "
+                    + "updates. Returns how many users, stories and tasks were deleted; unknown ids are ignored."
+    )
+    @DeleteMapping("/users")
+    public ResponseEntity<SoftDeleteResultDto> deleteUsers(@RequestParam List<UUID> ids) {
+        log.info("Deleting (soft) {} users", ids.size());
+        return ResponseEntity.ok(softDeleteService.deleteUsers(ids));
+    }
 }
@@ -3,13 +3,15 @@ package com.rohit.task_manager.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.io.Serializable;
+
 @Entity
 @Table(name = "priority")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Priority {
+public class Priority implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
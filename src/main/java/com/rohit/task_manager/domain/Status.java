@@ -3,13 +3,15 @@ package com.rohit.task_manager.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.io.Serializable;
+
 @Entity
 @Table(name = "status")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Status {
+public class Status implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
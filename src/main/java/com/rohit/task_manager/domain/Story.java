@@ -3,7 +3,9 @@ package com.rohit.task_manager.domain;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -14,10 +16,11 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Story {
+public class Story implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "story_seq")
+    @SequenceGenerator(name = "story_seq", sequenceName = "story_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -56,4 +59,11 @@ public class Story {
 
     @Column(nullable = false)
     private boolean isDeleted = false;
+
+    /**
+     * Optimistic lock, also bumped by the bulk updates; existing rows start at 0.
+     */
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 }
@@ -0,0 +1,46 @@
+package com.rohit.task_manager.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Number of live tasks and their summed estimated hours for one story in one status.
+ * Maintained incrementally on task writes, so story progress is read from a handful of
+ * these rows instead of the story's tasks.
+ */
+@Entity
+@Table(name = "story_status_rollup")
+@IdClass(StoryStatusRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoryStatusRollup implements Serializable {
+
+    @Id
+    @Column(name = "story_id")
+    private Long storyId;
+
+    @Id
+    @Column(name = "status_id")
+    private Long statusId;
+
+    @Column(nullable = false)
+    private long taskCount;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal estimatedHours;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long storyId;
+
+        private Long statusId;
+    }
+}
@@ -3,20 +3,29 @@ package com.rohit.task_manager.domain;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_task_assigned_to", columnList = "assigned_to"),
+        @Index(name = "idx_task_status_id", columnList = "status_id"),
+        @Index(name = "idx_task_priority_id", columnList = "priority_id"),
+        @Index(name = "idx_task_story_id", columnList = "story_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Task {
+public class Task implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -34,7 +43,7 @@ public class Task {
 
     private Instant expectedEndDateTime;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "story_id")
     @JsonBackReference
     private Story story;
@@ -53,5 +62,12 @@ public class Task {
 
     @Column(nullable = false)
     private boolean isDeleted = false;
+
+    /**
+     * Optimistic lock, also bumped by the bulk updates; existing rows start at 0.
+     */
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 }
 
@@ -0,0 +1,34 @@
+package com.rohit.task_manager.dto.input;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves tasks to {@code statusId}. The tasks are those listed in {@code taskIds} and/or matching
+ * every given filter; at least one of them is required.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class BulkTaskStatusRequest {
+
+    private Long statusId;
+
+    private List<Long> taskIds;
+
+    private UUID userId;
+
+    private Long storyId;
+
+    /**
+     * Name of the status the tasks must currently have, e.g. {@code IN_PROGRESS}.
+     */
+    private String currentStatus;
+
+}
@@ -0,0 +1,23 @@
+package com.rohit.task_manager.dto.input;
+
+/**
+ * How the total of a paged listing is obtained, chosen with the {@code total} request parameter.
+ */
+public enum PageTotal {
+
+    /**
+     * Counted for this request, with a second query over the same filters.
+     */
+    EXACT,
+
+    /**
+     * A count cached for a short while, or for an unfiltered listing the Postgres planner's row
+     * estimate. Cheap, but may lag recent changes.
+     */
+    APPROXIMATE,
+
+    /**
+     * No total; whether a next page exists is known from fetching one extra row.
+     */
+    NONE
+}
@@ -0,0 +1,42 @@
+package com.rohit.task_manager.dto.output;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable UTC view of an active story. One list of these is cached for all clients; the
+ * requested time zone is applied by {@link ZonedActiveStoryDto} when the response is written.
+ */
+@Value
+public class ActiveStoryDto implements Serializable {
+
+    Long id;
+
+    String title;
+
+    String description;
+
+    Integer storyPoints;
+
+    String status;
+
+    String priority;
+
+    UUID assignedToId;
+
+    String assignedToFirstName;
+
+    String assignedToLastName;
+
+    Instant expectedStartDateTime;
+
+    Instant expectedEndDateTime;
+
+    Instant createdAt;
+
+    Instant updatedAt;
+
+}
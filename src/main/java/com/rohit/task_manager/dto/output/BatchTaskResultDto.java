@@ -0,0 +1,40 @@
+package com.rohit.task_manager.dto.output;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTaskResultDto {
+
+    private int created;
+
+    private int rejected;
+
+    private List<Item> items;
+
+    public enum Outcome {
+        CREATED, REJECTED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /**
+         * Position of the item in the request list.
+         */
+        private int index;
+
+        private Outcome outcome;
+
+        private Long taskId;
+
+        private String error;
+
+    }
+}
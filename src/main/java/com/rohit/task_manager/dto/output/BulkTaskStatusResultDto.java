@@ -0,0 +1,32 @@
+package com.rohit.task_manager.dto.output;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskStatusResultDto {
+
+    private List<Long> changed;
+
+    /**
+     * Selected tasks that already had the requested status.
+     */
+    private List<Long> unchanged;
+
+    private List<Rejection> rejected;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rejection {
+
+        private Long taskId;
+
+        private String error;
+
+    }
+}
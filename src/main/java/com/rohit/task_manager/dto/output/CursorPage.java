@@ -0,0 +1,23 @@
+package com.rohit.task_manager.dto.output;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    /**
+     * Token for the next page, or {@code null} when this is the last page.
+     */
+    private String nextCursor;
+
+}
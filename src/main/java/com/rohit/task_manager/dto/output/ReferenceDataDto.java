@@ -0,0 +1,19 @@
+package com.rohit.task_manager.dto.output;
+
+import com.rohit.task_manager.domain.Priority;
+import com.rohit.task_manager.domain.Status;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReferenceDataDto {
+
+    private List<Status> statuses;
+
+    private List<Priority> priorities;
+
+}
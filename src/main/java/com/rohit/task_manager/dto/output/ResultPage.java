@@ -0,0 +1,52 @@
+package com.rohit.task_manager.dto.output;
+
+import com.rohit.task_manager.dto.input.PageTotal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * A page of a listing whose total was requested explicitly, marked as exact or approximate.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultPage<T> {
+
+    private List<T> content;
+
+    private int number;
+
+    private int size;
+
+    private boolean hasNext;
+
+    /**
+     * Number of matching rows, or {@code null} with {@link PageTotal#NONE}.
+     */
+    private Long totalElements;
+
+    private PageTotal total;
+
+    public static <T> ResultPage<T> of(Page<T> page) {
+        return new ResultPage<>(page.getContent(), page.getNumber(), page.getSize(), page.hasNext(),
+                page.getTotalElements(), PageTotal.EXACT);
+    }
+
+    /**
+     * An approximate total is raised to at least the rows this slice shows to exist.
+     */
+    public static <T> ResultPage<T> of(Slice<T> slice, Long approximateTotal) {
+        if (approximateTotal == null) {
+            return new ResultPage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(),
+                    null, PageTotal.NONE);
+        }
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new ResultPage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(),
+                Math.max(approximateTotal, seen), PageTotal.APPROXIMATE);
+    }
+}
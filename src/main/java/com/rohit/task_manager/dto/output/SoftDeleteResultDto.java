@@ -0,0 +1,20 @@
+package com.rohit.task_manager.dto.output;
+
+import lombok.*;
+
+/**
+ * Rows marked deleted by one soft delete, cascades included.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SoftDeleteResultDto {
+
+    private int users;
+
+    private int stories;
+
+    private int tasks;
+
+}
@@ -0,0 +1,32 @@
+package com.rohit.task_manager.dto.output;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoryProgressDto {
+
+    private Long storyId;
+
+    private long totalTasks;
+
+    private long completedTasks;
+
+    private BigDecimal totalEstimatedHours;
+
+    /**
+     * Estimated hours of the tasks that are not DONE.
+     */
+    private BigDecimal remainingEstimatedHours;
+
+    /**
+     * Task count per status name; statuses without tasks are omitted.
+     */
+    private Map<String, Long> tasksByStatus;
+
+}
@@ -0,0 +1,9 @@
+package com.rohit.task_manager.dto.output;
+
+import java.io.Serializable;
+
+/**
+ * A response body together with the entity tag that validates it.
+ */
+public record Tagged<T>(T body, String eTag) implements Serializable {
+}
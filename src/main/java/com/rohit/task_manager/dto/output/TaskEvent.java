@@ -0,0 +1,42 @@
+package com.rohit.task_manager.dto.output;
+
+import com.rohit.task_manager.domain.Task;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed task change, as sent on {@code GET /api/v1/tasks/stream}. {@code previousStatus}
+ * is only set for status changes.
+ */
+public record TaskEvent(Type type, Long taskId, UUID assignedToId, String status, String previousStatus,
+                        String priority, Instant occurredAt) {
+
+    public enum Type {
+        CREATE, STATUS_CHANGE, DELETE;
+
+        /**
+         * The SSE event name.
+         */
+        public String eventName() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    public static TaskEvent created(Task task) {
+        return of(Type.CREATE, task, null, task.getCreatedAt());
+    }
+
+    public static TaskEvent statusChanged(Task task, String previousStatus) {
+        return of(Type.STATUS_CHANGE, task, previousStatus, task.getUpdatedAt());
+    }
+
+    private static TaskEvent of(Type type, Task task, String previousStatus, Instant occurredAt) {
+        return new TaskEvent(type, task.getId(),
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getStatus() != null ? task.getStatus().getName() : null,
+                previousStatus,
+                task.getPriority() != null ? task.getPriority().getName() : null,
+                occurredAt);
+    }
+}
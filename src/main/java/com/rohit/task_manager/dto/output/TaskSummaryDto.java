@@ -0,0 +1,46 @@
+package com.rohit.task_manager.dto.output;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Flat listing view of a task: reference data is reduced to names and ids, so a page is
+ * read with a single select and carries no nested user or story graphs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSummaryDto implements Serializable {
+
+    private Long id;
+
+    private String title;
+
+    private BigDecimal estimatedHours;
+
+    private String status;
+
+    private String priority;
+
+    private UUID assignedToId;
+
+    private String assignedToFirstName;
+
+    private String assignedToLastName;
+
+    private Long storyId;
+
+    private Instant expectedStartDateTime;
+
+    private Instant expectedEndDateTime;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,119 @@
+package com.rohit.task_manager.dto.output;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * An {@link ActiveStoryDto} seen from a client time zone. Timestamps are converted when their
+ * getters are called, i.e. while Jackson writes the response, so nothing zone specific is
+ * cached or copied.
+ */
+public class ZonedActiveStoryDto {
+
+    private final ActiveStoryDto story;
+    private final ZoneId zone;
+    private final ZoneRules rules;
+
+    private ZonedActiveStoryDto(ActiveStoryDto story, ZoneId zone, ZoneRules rules) {
+        this.story = story;
+        this.zone = zone;
+        this.rules = rules;
+    }
+
+    /**
+     * Returns a read-only list that wraps each snapshot element on access.
+     */
+    public static List<ZonedActiveStoryDto> project(List<ActiveStoryDto> stories, ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        return new ZonedList(stories, zone, rules);
+    }
+
+    public Long getId() {
+        return story.getId();
+    }
+
+    public String getTitle() {
+        return story.getTitle();
+    }
+
+    public String getDescription() {
+        return story.getDescription();
+    }
+
+    public Integer getStoryPoints() {
+        return story.getStoryPoints();
+    }
+
+    public String getStatus() {
+        return story.getStatus();
+    }
+
+    public String getPriority() {
+        return story.getPriority();
+    }
+
+    public UUID getAssignedToId() {
+        return story.getAssignedToId();
+    }
+
+    public String getAssignedToFirstName() {
+        return story.getAssignedToFirstName();
+    }
+
+    public String getAssignedToLastName() {
+        return story.getAssignedToLastName();
+    }
+
+    public String getTimeZone() {
+        return zone.getId();
+    }
+
+    public OffsetDateTime getExpectedStartDateTime() {
+        return atZone(story.getExpectedStartDateTime());
+    }
+
+    public OffsetDateTime getExpectedEndDateTime() {
+        return atZone(story.getExpectedEndDateTime());
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return atZone(story.getCreatedAt());
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return atZone(story.getUpdatedAt());
+    }
+
+    private OffsetDateTime atZone(Instant instant) {
+        return instant == null ? null : instant.atOffset(rules.getOffset(instant));
+    }
+
+    private static final class ZonedList extends AbstractList<ZonedActiveStoryDto> implements RandomAccess {
+
+        private final List<ActiveStoryDto> stories;
+        private final ZoneId zone;
+        private final ZoneRules rules;
+
+        private ZonedList(List<ActiveStoryDto> stories, ZoneId zone, ZoneRules rules) {
+            this.stories = stories;
+            this.zone = zone;
+            this.rules = rules;
+        }
+
+        @Override
+        public ZonedActiveStoryDto get(int index) {
+            return new ZonedActiveStoryDto(stories.get(index), zone, rules);
+        }
+
+        @Override
+        public int size() {
+            return stories.size();
+        }
+    }
+}
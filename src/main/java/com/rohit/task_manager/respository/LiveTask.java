@@ -0,0 +1,10 @@
+package com.rohit.task_manager.respository;
+
+import java.util.UUID;
+
+/**
+ * Id and filter values of a live task, selected by {@link TaskRepository#findLiveTasks} before
+ * it is deleted.
+ */
+public record LiveTask(Long id, UUID assignedToId, String status, String priority) {
+}
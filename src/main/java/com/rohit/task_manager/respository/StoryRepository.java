@@ -1,12 +1,19 @@
 package com.rohit.task_manager.respository;
 
 import com.rohit.task_manager.domain.Story;
+import com.rohit.task_manager.dto.output.ActiveStoryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,7 +22,40 @@ public interface StoryRepository extends JpaRepository<Story, Long> {
 
     Page<Story> findByAssignedToIdAndIsDeletedFalse(UUID userId, Pageable pageable);
 
-    @Query("SELECT s FROM Story s WHERE s.status.name = 'IN_PROGRESS' AND s.priority.name = 'LOW' AND s.isDeleted = false")
-    List<Story> findActiveStories();
+    Slice<Story> findSliceByAssignedToIdAndIsDeletedFalse(UUID userId, Pageable pageable);
+
+    long countByAssignedToIdAndIsDeletedFalse(UUID userId);
+
+    @Query("""
+            SELECT new com.rohit.task_manager.dto.output.ActiveStoryDto(
+                s.id, s.title, s.description, s.storyPoints, st.name, p.name,
+                u.id, u.firstName, u.lastName,
+                s.expectedStartDateTime, s.expectedEndDateTime, s.createdAt, s.updatedAt)
+            FROM Story s
+            JOIN s.status st
+            JOIN s.priority p
+            LEFT JOIN s.assignedTo u
+            WHERE st.name = 'IN_PROGRESS' AND p.name = 'LOW' AND s.isDeleted = false
+            """)
+    @Transactional(readOnly = true)
+    List<ActiveStoryDto> findActiveStories();
+
+    @Query("SELECT s.id FROM Story s WHERE s.isDeleted = false AND s.assignedTo.id IN :userIds")
+    List<Long> findLiveIdsByAssignees(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Story s SET s.isDeleted = true, s.updatedAt = :now, s.version = s.version + 1 WHERE s.isDeleted = false AND s.id IN :ids")
+    int softDelete(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /**
+     * Deletes the live stories of users that are already deleted; for databases written before
+     * user deletion cascaded.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Story s SET s.isDeleted = true, s.updatedAt = :now, s.version = s.version + 1
+            WHERE s.isDeleted = false AND s.assignedTo.id IN (SELECT u.id FROM User u WHERE u.isDeleted = true)
+            """)
+    int softDeleteOrphans(@Param("now") Instant now);
 
 }
@@ -0,0 +1,73 @@
+package com.rohit.task_manager.respository;
+
+import com.rohit.task_manager.domain.StoryStatusRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StoryStatusRollupRepository extends JpaRepository<StoryStatusRollup, StoryStatusRollup.Key> {
+
+    List<StoryStatusRollup> findByStoryId(Long storyId);
+
+    /**
+     * Creates the zero row for a story and status unless it exists; together with
+     * {@link #increment} this is a race-free upsert.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO story_status_rollup (story_id, status_id, task_count, estimated_hours)
+            VALUES (:storyId, :statusId, 0, 0)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("storyId") Long storyId, @Param("statusId") Long statusId);
+
+    @Modifying
+    @Query("""
+            UPDATE StoryStatusRollup r
+            SET r.taskCount = r.taskCount + :tasks, r.estimatedHours = r.estimatedHours + :hours
+            WHERE r.storyId = :storyId AND r.statusId = :statusId
+            """)
+    int increment(@Param("storyId") Long storyId, @Param("statusId") Long statusId,
+                  @Param("tasks") long tasks, @Param("hours") BigDecimal hours);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM story_status_rollup)", nativeQuery = true)
+    boolean hasRows();
+
+    @Modifying
+    @Query(value = "DELETE FROM story_status_rollup", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "DELETE FROM story_status_rollup WHERE story_id IN (:storyIds)", nativeQuery = true)
+    void deleteByStoryIds(@Param("storyIds") Collection<Long> storyIds);
+
+    /**
+     * Recomputes every rollup from the task table; for the initial backfill and repairs.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO story_status_rollup (story_id, status_id, task_count, estimated_hours)
+            SELECT t.story_id, t.status_id, COUNT(*), COALESCE(SUM(t.estimated_hours), 0)
+            FROM task t
+            WHERE t.story_id IS NOT NULL AND t.is_deleted = false
+            GROUP BY t.story_id, t.status_id
+            """, nativeQuery = true)
+    int insertFromTasks();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO story_status_rollup (story_id, status_id, task_count, estimated_hours)
+            SELECT t.story_id, t.status_id, COUNT(*), COALESCE(SUM(t.estimated_hours), 0)
+            FROM task t
+            WHERE t.story_id IN (:storyIds) AND t.is_deleted = false
+            GROUP BY t.story_id, t.status_id
+            """, nativeQuery = true)
+    int insertFromTasksOfStories(@Param("storyIds") Collection<Long> storyIds);
+}
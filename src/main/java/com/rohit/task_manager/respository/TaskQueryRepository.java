@@ -0,0 +1,64 @@
+package com.rohit.task_manager.respository;
+
+import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.dto.input.TaskCursor;
+import com.rohit.task_manager.dto.output.TaskSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Task queries beyond derived ones: criteria queries that take a {@link TaskSpecifications} filter,
+ * and native Postgres statements.
+ */
+public interface TaskQueryRepository {
+
+    /**
+     * Keyset page ordered by {@code (createdAt DESC, id DESC)}, with assignee, status and
+     * priority fetched in the same select and no count query.
+     */
+    List<Task> findAfter(Specification<Task> spec, TaskCursor cursor, int limit);
+
+    Page<TaskSummaryDto> findSummaries(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * All matching tasks, newest first, read from a forward-only cursor in chunks of
+     * {@code fetchSize} rows. Must be consumed and closed inside a (read-only) transaction;
+     * on Postgres the fetch size only applies when auto-commit is off.
+     */
+    Stream<Task> streamAll(Specification<Task> spec, int fetchSize);
+
+    /**
+     * Live tasks whose title, or whose story's description, matches the web-search style query
+     * (words, {@code "quoted phrases"}, {@code or}, {@code -excluded}), best match first. Needs the
+     * Postgres {@code search_vector} columns from {@code db/full-text-search.sql}; the sort of the
+     * pageable is ignored.
+     */
+    Page<Task> findByText(String text, Pageable pageable);
+
+    /**
+     * The Postgres planner's estimate of the number of live tasks, from the table statistics
+     * kept by {@code ANALYZE}/autovacuum; no rows are read.
+     */
+    long estimateLiveCount();
+
+    /**
+     * Moves the live tasks that are in {@code ids} (when given) and match every non-null filter to
+     * {@code statusId} with one {@code UPDATE ... RETURNING} statement. Tasks that already have the
+     * status are left alone, and so are tasks without expected start/end dates when
+     * {@code requireSchedule} is set (the IN_PROGRESS rule). The selected rows are locked first, so
+     * the returned previous status is the one the update replaced. At most {@code limit} tasks,
+     * those with the lowest ids, are selected.
+     *
+     * @return every selected task, changed or not
+     */
+    List<TaskStatusTransition> transitionStatus(Collection<Long> ids, UUID userId, Long storyId, Long currentStatusId,
+                                                Long statusId, boolean requireSchedule, Instant now, int limit);
+
+}
@@ -0,0 +1,239 @@
+package com.rohit.task_manager.respository;
+
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.dto.input.TaskCursor;
+import com.rohit.task_manager.dto.output.TaskSummaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    /**
+     * Ids of the tasks matching the query through either GIN index. The two branches are kept
+     * apart (instead of one {@code OR} across the join) so that each can use its own index.
+     */
+    private static final String TEXT_MATCHES = """
+            WITH tsq AS (SELECT websearch_to_tsquery('english', :text) AS q),
+            matches AS (
+                SELECT t.id FROM task t, tsq WHERE t.search_vector @@ tsq.q
+                UNION
+                SELECT t.id FROM task t JOIN stories s ON s.id = t.story_id, tsq
+                WHERE s.search_vector @@ tsq.q AND NOT s.is_deleted
+            )
+            """;
+
+    private static final String LIVE_MATCHES = """
+            FROM matches m
+            JOIN task t ON t.id = m.id
+            LEFT JOIN stories s ON s.id = t.story_id
+            CROSS JOIN tsq
+            WHERE NOT t.is_deleted
+            """;
+
+    /**
+     * A match in the task's own title weighs more than one in its story's description.
+     */
+    private static final String RANKED_IDS = TEXT_MATCHES + "SELECT t.id " + LIVE_MATCHES + """
+            ORDER BY ts_rank(t.search_vector, tsq.q) + 0.4 * coalesce(ts_rank(s.search_vector, tsq.q), 0) DESC, t.id DESC
+            """;
+
+    private static final String COUNT_MATCHES = TEXT_MATCHES + "SELECT count(*) " + LIVE_MATCHES;
+
+    private static final String ESTIMATE_LIVE = "EXPLAIN SELECT 1 FROM task WHERE NOT is_deleted";
+
+    private static final Pattern PLAN_ROWS = Pattern.compile(" rows=(\\d+) ");
+
+    private static final String TRANSITION_TARGET = """
+            WITH target AS (
+                SELECT t.id, t.status_id, t.story_id, t.estimated_hours, t.assigned_to, u.first_name,
+                       t.expected_end_date_time, t.priority_id,
+                       t.expected_start_date_time IS NOT NULL AND t.expected_end_date_time IS NOT NULL AS scheduled
+                FROM task t JOIN users u ON u.id = t.assigned_to
+                WHERE NOT t.is_deleted
+            """;
+
+    private static final String TRANSITION_UPDATE = """
+                ORDER BY t.id
+                LIMIT :limit
+                FOR UPDATE OF t
+            ),
+            updated AS (
+                UPDATE task t SET status_id = :statusId, updated_at = :now, version = t.version + 1
+                FROM target
+                WHERE t.id = target.id AND target.status_id <> :statusId
+            """;
+
+    private static final String TRANSITION_RESULT = """
+                RETURNING t.id
+            )
+            SELECT target.id, target.status_id AS previous_status_id, updated.id IS NOT NULL AS changed, target.scheduled,
+                   target.story_id, target.estimated_hours, target.assigned_to, target.first_name,
+                   target.expected_end_date_time, target.priority_id
+            FROM target LEFT JOIN updated ON updated.id = target.id
+            ORDER BY target.id
+            """;
+
+    private final EntityManager entityManager;
+
+    TaskQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Task> findAfter(Specification<Task> spec, TaskCursor cursor, int limit) {
+        return newestFirst(spec.and(TaskSpecifications.after(cursor))).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<Task> streamAll(Specification<Task> spec, int fetchSize) {
+        return newestFirst(spec)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<TaskSummaryDto> findSummaries(Specification<Task> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummaryDto> query = cb.createQuery(TaskSummaryDto.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> user = task.join("assignedTo");
+        Join<Task, Status> status = task.join("status");
+        Join<Task, Priority> priority = task.join("priority");
+        Join<Task, Story> story = task.join("story", JoinType.LEFT);
+
+        query.select(cb.construct(TaskSummaryDto.class,
+                task.get("id"), task.get("title"), task.get("estimatedHours"), status.get("name"), priority.get("name"),
+                user.get("id"), user.get("firstName"), user.get("lastName"), story.get("id"),
+                task.get("expectedStartDateTime"), task.get("expectedEndDateTime"), task.get("createdAt"),
+                task.get("updatedAt")));
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(pageable.getSort(), task, cb));
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<Task> findByText(String text, Pageable pageable) {
+        var idQuery = entityManager.createNativeQuery(RANKED_IDS, Long.class).setParameter("text", text);
+        if (pageable.isPaged()) {
+            idQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        @SuppressWarnings("unchecked")
+        List<Long> ids = idQuery.getResultList();
+
+        Map<Long, Task> tasks = ids.isEmpty() ? Map.of() : newestFirst(TaskSpecifications.ids(ids)).getResultStream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> ranked = ids.stream().map(tasks::get).filter(Objects::nonNull).toList();
+        return PageableExecutionUtils.getPage(ranked, pageable, () -> ((Number) entityManager
+                .createNativeQuery(COUNT_MATCHES).setParameter("text", text).getSingleResult()).longValue());
+    }
+
+    @Override
+    public long estimateLiveCount() {
+        String plan = (String) entityManager.createNativeQuery(ESTIMATE_LIVE).getResultList().get(0);
+        Matcher rows = PLAN_ROWS.matcher(plan);
+        if (!rows.find()) {
+            throw new IllegalStateException("No row estimate in plan: " + plan);
+        }
+        return Long.parseLong(rows.group(1));
+    }
+
+    @Override
+    public List<TaskStatusTransition> transitionStatus(Collection<Long> ids, UUID userId, Long storyId,
+                                                       Long currentStatusId, Long statusId, boolean requireSchedule,
+                                                       Instant now, int limit) {
+        StringBuilder sql = new StringBuilder(TRANSITION_TARGET);
+        Map<String, Object> parameters = new HashMap<>(Map.of("statusId", statusId, "now", now, "limit", limit));
+        if (ids != null) {
+            sql.append("    AND t.id IN (:ids)\n");
+            parameters.put("ids", ids);
+        }
+        if (userId != null) {
+            sql.append("    AND t.assigned_to = :userId\n");
+            parameters.put("userId", userId);
+        }
+        if (storyId != null) {
+            sql.append("    AND t.story_id = :storyId\n");
+            parameters.put("storyId", storyId);
+        }
+        if (currentStatusId != null) {
+            sql.append("    AND t.status_id = :currentStatusId\n");
+            parameters.put("currentStatusId", currentStatusId);
+        }
+        sql.append(TRANSITION_UPDATE);
+        if (requireSchedule) {
+            sql.append("    AND target.scheduled\n");
+        }
+        sql.append(TRANSITION_RESULT);
+
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql.toString()).unwrap(NativeQuery.class);
+        query.addScalar("id", Long.class)
+                .addScalar("previous_status_id", Long.class)
+                .addScalar("changed", Boolean.class)
+                .addScalar("scheduled", Boolean.class)
+                .addScalar("story_id", Long.class)
+                .addScalar("estimated_hours", BigDecimal.class)
+                .addScalar("assigned_to", UUID.class)
+                .addScalar("first_name", String.class)
+                .addScalar("expected_end_date_time", Instant.class)
+                .addScalar("priority_id", Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList().stream()
+                .map(row -> new TaskStatusTransition((Long) row[0], (Long) row[1], (Boolean) row[2], (Boolean) row[3],
+                        (Long) row[4], (BigDecimal) row[5], (UUID) row[6], (String) row[7], (Instant) row[8],
+                        (Long) row[9]))
+                .toList();
+    }
+
+    private TypedQuery<Task> newestFirst(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task));
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
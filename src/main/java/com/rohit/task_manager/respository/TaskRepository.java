@@ -1,33 +1,98 @@
 package com.rohit.task_manager.respository;
 
+import com.rohit.task_manager.cache.TaskDimensions;
+import com.rohit.task_manager.domain.Status;
 import com.rohit.task_manager.domain.Task;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-
-    @Query("SELECT t FROM Task t WHERE (COALESCE(:userId, t.assignedTo.id) = t.assignedTo.id) AND " +
-            "(COALESCE(:firstName, t.assignedTo.firstName) = t.assignedTo.firstName) AND " +
-            "(COALESCE(:expectedEnd, t.expectedEndDateTime) = t.expectedEndDateTime) AND " +
-            "(COALESCE(:status, t.status.name) = t.status.name) AND t.isDeleted = false AND t.assignedTo.isDeleted = false")
-    Page<Task> searchTasks(@Param("userId") UUID userId, @Param("firstName") String firstName,
-                           @Param("expectedEnd") Instant expectedEnd, @Param("status") String status, Pageable pageable);
-
-    @Query("SELECT t FROM Task t WHERE (:userId IS NULL OR t.assignedTo.id = :userId) AND " +
-            "(:status IS NULL OR t.status.name = :status) AND (:priority IS NULL OR t.priority.name = :priority) AND " +
-            "t.isDeleted = false AND t.assignedTo.isDeleted = false")
-    Page<Task> filterTasks(
-            @Param("userId") UUID userId,
-            @Param("status") String status,
-            @Param("priority") String priority,
-            Pageable pageable);
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskQueryRepository {
+
+    /**
+     * Cache dimensions of the live tasks that {@link #softDelete} would delete for the same arguments.
+     */
+    @Query("""
+            SELECT DISTINCT new com.rohit.task_manager.cache.TaskDimensions(u.id, u.firstName, t.expectedEndDateTime, s.name, p.name)
+            FROM Task t JOIN t.assignedTo u JOIN t.status s JOIN t.priority p
+            WHERE t.isDeleted = false
+              AND (t.id IN :ids OR t.assignedTo.id IN :userIds OR t.story.id IN :storyIds)
+            """)
+    List<TaskDimensions> findLiveDimensions(@Param("ids") Collection<Long> ids, @Param("userIds") Collection<UUID> userIds,
+                                            @Param("storyIds") Collection<Long> storyIds);
+
+    /**
+     * The live tasks that {@link #softDelete} would delete for the same arguments.
+     */
+    @Query("""
+            SELECT new com.rohit.task_manager.respository.LiveTask(t.id, u.id, s.name, p.name)
+            FROM Task t JOIN t.assignedTo u JOIN t.status s JOIN t.priority p
+            WHERE t.isDeleted = false
+              AND (t.id IN :ids OR t.assignedTo.id IN :userIds OR t.story.id IN :storyIds)
+            """)
+    List<LiveTask> findLiveTasks(@Param("ids") Collection<Long> ids, @Param("userIds") Collection<UUID> userIds,
+                                 @Param("storyIds") Collection<Long> storyIds);
+
+    /**
+     * Stories of the live tasks that {@link #softDelete} would delete for the same arguments.
+     */
+    @Query("""
+            SELECT DISTINCT t.story.id FROM Task t
+            WHERE t.isDeleted = false AND t.story IS NOT NULL
+              AND (t.id IN :ids OR t.assignedTo.id IN :userIds OR t.story.id IN :storyIds)
+            """)
+    List<Long> findLiveStoryIds(@Param("ids") Collection<Long> ids, @Param("userIds") Collection<UUID> userIds,
+                                @Param("storyIds") Collection<Long> storyIds);
+
+    /**
+     * Marks deleted, in one statement, the live tasks with the given ids, assigned to the given
+     * users or belonging to the given stories. Empty collections match nothing.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Task t SET t.isDeleted = true, t.updatedAt = :now, t.version = t.version + 1
+            WHERE t.isDeleted = false
+              AND (t.id IN :ids OR t.assignedTo.id IN :userIds OR t.story.id IN :storyIds)
+            """)
+    int softDelete(@Param("ids") Collection<Long> ids, @Param("userIds") Collection<UUID> userIds,
+                   @Param("storyIds") Collection<Long> storyIds, @Param("now") Instant now);
+
+    /**
+     * Deletes the live tasks of users and stories that are already deleted; for databases
+     * written before user deletion cascaded.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Task t SET t.isDeleted = true, t.updatedAt = :now, t.version = t.version + 1
+            WHERE t.isDeleted = false
+              AND (t.assignedTo.id IN (SELECT u.id FROM User u WHERE u.isDeleted = true)
+                   OR t.story.id IN (SELECT s.id FROM Story s WHERE s.isDeleted = true))
+            """)
+    int softDeleteOrphans(@Param("now") Instant now);
+
+    /**
+     * Compare-and-set status transition: moves the task to {@code status} only if it still has
+     * {@code expectedStatusId} and, when given, {@code expectedVersion}.
+     *
+     * @return 1 if the task was moved, 0 if another writer changed it first
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.version = t.version + 1
+            WHERE t.id = :id AND t.status.id = :expectedStatusId
+              AND (:expectedVersion IS NULL OR t.version = :expectedVersion)
+            """)
+    int compareAndSetStatus(@Param("id") Long id, @Param("expectedStatusId") Long expectedStatusId,
+                            @Param("expectedVersion") Long expectedVersion, @Param("status") Status status,
+                            @Param("now") Instant now);
 
 }
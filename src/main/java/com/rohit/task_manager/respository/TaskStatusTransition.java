@@ -0,0 +1,14 @@
+package com.rohit.task_manager.respository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A task selected by {@link TaskQueryRepository#transitionStatus}, with the values it had before
+ * the update and whether the update changed it.
+ */
+public record TaskStatusTransition(Long id, Long previousStatusId, boolean changed, boolean scheduled, Long storyId,
+                                   BigDecimal estimatedHours, UUID assignedToId, String assignedToFirstName,
+                                   Instant expectedEnd, Long priorityId) {
+}
@@ -0,0 +1,48 @@
+package com.rohit.task_manager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Counters of concurrent writers getting in each other's way: {@code task.status.updates}
+ * tagged by outcome (retried / conflict / precondition_failed against applied gives the
+ * contention rate of the compare-and-set status update), and {@code optimistic.lock.failures}
+ * tagged by entity for saves rejected by a {@code @Version} check.
+ */
+@Component
+public class ContentionMetrics {
+
+    public enum Outcome {
+        APPLIED, RETRIED, CONFLICT, PRECONDITION_FAILED
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Outcome, Counter> statusUpdates = new EnumMap<>(Outcome.class);
+
+    public ContentionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Outcome outcome : Outcome.values()) {
+            statusUpdates.put(outcome, Counter.builder("task.status.updates")
+                    .description("Compare-and-set task status updates by outcome")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void statusUpdate(Outcome outcome) {
+        statusUpdates.get(outcome).increment();
+    }
+
+    public void optimisticLockFailure(String entity) {
+        Counter.builder("optimistic.lock.failures")
+                .description("Saves rejected because the entity version changed since it was read")
+                .tag("entity", entity)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,24 @@
+package com.rohit.task_manager.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cascades soft deletes made before deletion cascaded, once the tables exist, so that no live
+ * story or task of a deleted user is listed. Listings rely on this instead of checking
+ * {@code users.is_deleted}. Both updates match nothing on an up-to-date database.
+ */
+@Component
+public class OrphanBackfill {
+
+    private final SoftDeleteService softDeleteService;
+
+    public OrphanBackfill(SoftDeleteService softDeleteService) {
+        this.softDeleteService = softDeleteService;
+    }
+
+    @PostConstruct
+    public void run() {
+        softDeleteService.deleteOrphans();
+    }
+}
@@ -0,0 +1,74 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.cache.TaskQueryKey;
+import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.respository.StoryRepository;
+import com.rohit.task_manager.respository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Approximate totals of the paged listings, for clients that ask for {@code total=approximate}.
+ * Counts are cached briefly per filter combination ({@code taskTotalsCache}, evicted by task
+ * mutations like the pages themselves, and {@code storyTotalsCache}); an unfiltered task listing
+ * on Postgres is answered from the planner's row estimate instead of counting the table.
+ */
+@Component
+@Log4j2
+public class PageTotals {
+
+    static final String TASK_TOTALS_CACHE = "taskTotalsCache";
+    static final String STORY_TOTALS_CACHE = "storyTotalsCache";
+
+    private final TaskRepository taskRepository;
+    private final StoryRepository storyRepository;
+    private final Cache taskTotals;
+    private final Cache storyTotals;
+    private final boolean plannerEstimates;
+
+    public PageTotals(TaskRepository taskRepository, StoryRepository storyRepository, CacheManager cacheManager,
+                      EntityManagerFactory entityManagerFactory) {
+        this.taskRepository = taskRepository;
+        this.storyRepository = storyRepository;
+        this.taskTotals = cacheManager.getCache(TASK_TOTALS_CACHE);
+        this.storyTotals = cacheManager.getCache(STORY_TOTALS_CACHE);
+        this.plannerEstimates = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * @param key the key of any page of the listing; only its filters are used
+     */
+    public long tasks(TaskQueryKey key, Specification<Task> spec) {
+        if (plannerEstimates && key.isUnfiltered()) {
+            return taskRepository.estimateLiveCount();
+        }
+        return taskTotals.get(key.forTotal(), () -> {
+            log.debug("Counting tasks for {}", key);
+            return taskRepository.count(spec);
+        });
+    }
+
+    public long stories(UUID userId) {
+        return storyTotals.get(userId, () -> storyRepository.countByAssignedToIdAndIsDeletedFalse(userId));
+    }
+
+    public void onStoryCreated(UUID userId) {
+        storyTotals.evict(userId);
+    }
+
+    /**
+     * For deletes whose stories' assignees are not known individually.
+     */
+    public void onStoriesDeleted() {
+        storyTotals.clear();
+    }
+}
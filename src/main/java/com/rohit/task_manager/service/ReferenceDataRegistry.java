@@ -0,0 +1,95 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.domain.Priority;
+import com.rohit.task_manager.domain.Status;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.respository.PriorityRepository;
+import com.rohit.task_manager.respository.StatusRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the {@code status} and {@code priority} lookup tables, indexed by
+ * id and by name. It is loaded at startup and swapped atomically on {@link #refresh()}, which runs
+ * periodically and from the admin endpoint. The returned entities are shared between requests and
+ * must be treated as read-only.
+ */
+@Component
+@Log4j2
+public class ReferenceDataRegistry {
+
+    private record Snapshot(Map<Long, Status> statusesById, Map<String, Status> statusesByName,
+                            Map<Long, Priority> prioritiesById, Map<String, Priority> prioritiesByName) {
+    }
+
+    private final StatusRepository statusRepository;
+    private final PriorityRepository priorityRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+
+    public ReferenceDataRegistry(StatusRepository statusRepository, PriorityRepository priorityRepository) {
+        this.statusRepository = statusRepository;
+        this.priorityRepository = priorityRepository;
+    }
+
+    @PostConstruct
+    @Scheduled(initialDelayString = "${task-manager.reference-data.refresh-interval:PT5M}",
+            fixedDelayString = "${task-manager.reference-data.refresh-interval:PT5M}")
+    public void refresh() {
+        List<Status> statuses = statusRepository.findAll();
+        List<Priority> priorities = priorityRepository.findAll();
+        snapshot = new Snapshot(
+                statuses.stream().collect(Collectors.toUnmodifiableMap(Status::getId, Function.identity())),
+                statuses.stream().collect(Collectors.toUnmodifiableMap(Status::getName, Function.identity())),
+                priorities.stream().collect(Collectors.toUnmodifiableMap(Priority::getId, Function.identity())),
+                priorities.stream().collect(Collectors.toUnmodifiableMap(Priority::getName, Function.identity())));
+        log.info("Loaded reference data: {} statuses, {} priorities", statuses.size(), priorities.size());
+    }
+
+    public Status getStatus(Long id) {
+        if (id == null) {
+            throw new BadRequestException("Status ID is required");
+        }
+        Status status = snapshot.statusesById().get(id);
+        if (status == null) {
+            throw new EntityNotFoundException("Status not found: " + id);
+        }
+        return status;
+    }
+
+    public Priority getPriority(Long id) {
+        if (id == null) {
+            throw new BadRequestException("Priority ID is required");
+        }
+        Priority priority = snapshot.prioritiesById().get(id);
+        if (priority == null) {
+            throw new EntityNotFoundException("Priority not found: " + id);
+        }
+        return priority;
+    }
+
+    public Optional<Status> findStatusByName(String name) {
+        return Optional.ofNullable(name).map(snapshot.statusesByName()::get);
+    }
+
+    public Optional<Priority> findPriorityByName(String name) {
+        return Optional.ofNullable(name).map(snapshot.prioritiesByName()::get);
+    }
+
+    public List<Status> getStatuses() {
+        return List.copyOf(snapshot.statusesById().values());
+    }
+
+    public List<Priority> getPriorities() {
+        return List.copyOf(snapshot.prioritiesById().values());
+    }
+}
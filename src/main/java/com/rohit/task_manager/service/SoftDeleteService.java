@@ -0,0 +1,164 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.cache.TaskCacheInvalidator;
+import com.rohit.task_manager.cache.TaskCacheInvalidator.Mutation;
+import com.rohit.task_manager.cache.TaskDimensions;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.respository.LiveTask;
+import com.rohit.task_manager.respository.StoryRepository;
+import com.rohit.task_manager.respository.TaskRepository;
+import com.rohit.task_manager.respository.UserRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Set-based soft deletes of users, stories and tasks. Deletion cascades downwards: a user's
+ * stories and tasks, and a story's tasks, are marked deleted by a handful of bulk updates in the
+ * same transaction, however many rows they touch. Because no live task or story keeps a deleted
+ * assignee, listings do not need to check {@code users.is_deleted}.
+ * <p>
+ * The progress rollups of the touched stories are recomputed from their remaining tasks, and
+ * the task cache pages that contained a deleted task, deleted users, the active stories snapshot
+ * and the story totals are evicted after commit.
+ * Deleted tasks are announced on the task event stream, except those deleted by
+ * {@link #deleteOrphans}.
+ */
+@Service
+@Log4j2
+public class SoftDeleteService {
+
+    static final int MAX_IDS = 1000;
+
+    private final UserRepository userRepository;
+    private final StoryRepository storyRepository;
+    private final TaskRepository taskRepository;
+    private final StoryProgressService storyProgress;
+    private final TaskCacheInvalidator cacheInvalidator;
+    private final UserCache userCache;
+    private final PageTotals pageTotals;
+    private final TaskEventBroadcaster taskEvents;
+    private final Cache activeStoriesCache;
+
+    public SoftDeleteService(UserRepository userRepository, StoryRepository storyRepository,
+                             TaskRepository taskRepository, StoryProgressService storyProgress,
+                             TaskCacheInvalidator cacheInvalidator, UserCache userCache,
+                             PageTotals pageTotals, TaskEventBroadcaster taskEvents, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.storyRepository = storyRepository;
+        this.taskRepository = taskRepository;
+        this.storyProgress = storyProgress;
+        this.cacheInvalidator = cacheInvalidator;
+        this.userCache = userCache;
+        this.pageTotals = pageTotals;
+        this.taskEvents = taskEvents;
+        this.activeStoriesCache = cacheManager.getCache(StoryService.ACTIVE_STORIES_CACHE);
+    }
+
+    @Transactional
+    public SoftDeleteResultDto deleteUsers(Collection<UUID> ids) {
+        Set<UUID> userIds = checkIds(ids);
+        log.info("Soft deleting {} users with their stories and tasks", userIds.size());
+        int users = userRepository.softDelete(userIds);
+        userCache.evict(userIds);
+        Set<Long> storyIds = new HashSet<>(storyRepository.findLiveIdsByAssignees(userIds));
+        return cascade(users, Set.of(), userIds, storyIds);
+    }
+
+    @Transactional
+    public SoftDeleteResultDto deleteStories(Collection<Long> ids) {
+        Set<Long> storyIds = checkIds(ids);
+        log.info("Soft deleting {} stories with their tasks", storyIds.size());
+        return cascade(0, Set.of(), Set.of(), storyIds);
+    }
+
+    @Transactional
+    public SoftDeleteResultDto deleteTasks(Collection<Long> ids) {
+        Set<Long> taskIds = checkIds(ids);
+        log.info("Soft deleting {} tasks", taskIds.size());
+        return cascade(0, taskIds, Set.of(), Set.of());
+    }
+
+    /**
+     * Deletes the live stories and tasks of users (and the tasks of stories) that were deleted
+     * before deletion cascaded. Run by {@link OrphanBackfill} at startup; story progress and the
+     * caches are only rebuilt when something was deleted.
+     */
+    @Transactional
+    public SoftDeleteResultDto deleteOrphans() {
+        Instant now = Instant.now();
+        int stories = storyRepository.softDeleteOrphans(now);
+        int tasks = taskRepository.softDeleteOrphans(now);
+        if (stories + tasks > 0) {
+            storyProgress.rebuild();
+            cacheInvalidator.invalidateAll(Mutation.DELETE);
+            afterCommit(this::evictStories);
+        }
+        log.info("Soft deleted {} orphaned stories and {} orphaned tasks", stories, tasks);
+        return new SoftDeleteResultDto(0, stories, tasks);
+    }
+
+    private SoftDeleteResultDto cascade(int users, Set<Long> taskIds, Set<UUID> userIds, Set<Long> storyIds) {
+        Instant now = Instant.now();
+        List<TaskDimensions> affected = taskRepository.findLiveDimensions(taskIds, userIds, storyIds);
+        Set<Long> touchedStories = new HashSet<>(taskRepository.findLiveStoryIds(taskIds, userIds, storyIds));
+        // only read when someone listens to the task stream
+        List<LiveTask> deleted = taskEvents.hasSubscribers()
+                ? taskRepository.findLiveTasks(taskIds, userIds, storyIds) : List.of();
+
+        int stories = storyIds.isEmpty() ? 0 : storyRepository.softDelete(storyIds, now);
+        int tasks = taskRepository.softDelete(taskIds, userIds, storyIds, now);
+
+        storyProgress.recompute(touchedStories);
+        cacheInvalidator.onTasksChanged(Mutation.DELETE, affected);
+        taskEvents.publish(deleted.stream()
+                .map(task -> new TaskEvent(TaskEvent.Type.DELETE, task.id(), task.assignedToId(), task.status(), null,
+                        task.priority(), now))
+                .toList());
+        if (stories > 0) {
+            afterCommit(this::evictStories);
+        }
+        log.info("Soft deleted {} users, {} stories and {} tasks", users, stories, tasks);
+        return new SoftDeleteResultDto(users, stories, tasks);
+    }
+
+    private void evictStories() {
+        activeStoriesCache.evict(StoryService.ACTIVE_STORIES_KEY);
+        pageTotals.onStoriesDeleted();
+    }
+
+    /**
+     * Runs {@code action} after commit, so that a concurrent read cannot cache the stories again
+     * before the delete is visible.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static <T> Set<T> checkIds(Collection<T> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new BadRequestException("Between 1 and " + MAX_IDS + " ids are required");
+        }
+        Set<T> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        return distinct;
+    }
+}
@@ -0,0 +1,23 @@
+package com.rohit.task_manager.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the {@code story_status_rollup} table at startup when it is empty, so that story progress
+ * on an existing database counts the tasks created before the rollups were introduced.
+ */
+@Component
+public class StoryProgressBackfill {
+
+    private final StoryProgressService storyProgress;
+
+    public StoryProgressBackfill(StoryProgressService storyProgress) {
+        this.storyProgress = storyProgress;
+    }
+
+    @PostConstruct
+    public void run() {
+        storyProgress.rebuildIfEmpty();
+    }
+}
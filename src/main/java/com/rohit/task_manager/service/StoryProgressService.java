@@ -0,0 +1,178 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.domain.Status;
+import com.rohit.task_manager.domain.StoryStatusRollup;
+import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.dto.output.StoryProgressDto;
+import com.rohit.task_manager.respository.StoryRepository;
+import com.rohit.task_manager.respository.StoryStatusRollupRepository;
+import com.rohit.task_manager.respository.TaskStatusTransition;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Keeps {@link StoryStatusRollup} rows in step with task writes and serves story progress from
+ * them. The {@code on*} methods must run in the transaction that changes the task, so the
+ * rollup and the task commit or roll back together.
+ */
+@Service
+@Log4j2
+public class StoryProgressService {
+
+    static final String DONE_STATUS = "DONE";
+
+    private final StoryStatusRollupRepository rollupRepository;
+    private final StoryRepository storyRepository;
+    private final ReferenceDataRegistry referenceData;
+
+    public StoryProgressService(StoryStatusRollupRepository rollupRepository, StoryRepository storyRepository,
+                                ReferenceDataRegistry referenceData) {
+        this.rollupRepository = rollupRepository;
+        this.storyRepository = storyRepository;
+        this.referenceData = referenceData;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskCreated(Task task) {
+        apply(storyId(task), task.getStatus().getId(), 1, hours(task));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTasksCreated(Collection<Task> tasks) {
+        Map<StoryStatusRollup.Key, BigDecimal> hours = new LinkedHashMap<>();
+        Map<StoryStatusRollup.Key, Long> counts = new HashMap<>();
+        for (Task task : tasks) {
+            Long storyId = storyId(task);
+            if (storyId == null) {
+                continue;
+            }
+            StoryStatusRollup.Key key = new StoryStatusRollup.Key(storyId, task.getStatus().getId());
+            hours.merge(key, hours(task), BigDecimal::add);
+            counts.merge(key, 1L, Long::sum);
+        }
+        hours.forEach((key, sum) -> apply(key.getStoryId(), key.getStatusId(), counts.get(key), sum));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskStatusChanged(Task task, Status previous) {
+        Long storyId = storyId(task);
+        if (storyId == null || Objects.equals(previous.getId(), task.getStatus().getId())) {
+            return;
+        }
+        apply(storyId, previous.getId(), -1, hours(task).negate());
+        apply(storyId, task.getStatus().getId(), 1, hours(task));
+    }
+
+    /**
+     * Bulk variant of {@link #onTaskStatusChanged} for the tasks a set-based update changed to
+     * {@code statusId}: one rollup adjustment per story and status instead of two per task.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTasksStatusChanged(Collection<TaskStatusTransition> transitions, Long statusId) {
+        Map<StoryStatusRollup.Key, BigDecimal> hours = new LinkedHashMap<>();
+        Map<StoryStatusRollup.Key, Long> counts = new HashMap<>();
+        for (TaskStatusTransition transition : transitions) {
+            if (transition.storyId() == null || !transition.changed()) {
+                continue;
+            }
+            BigDecimal taskHours = transition.estimatedHours() != null ? transition.estimatedHours() : BigDecimal.ZERO;
+            StoryStatusRollup.Key from = new StoryStatusRollup.Key(transition.storyId(), transition.previousStatusId());
+            StoryStatusRollup.Key to = new StoryStatusRollup.Key(transition.storyId(), statusId);
+            hours.merge(from, taskHours.negate(), BigDecimal::add);
+            counts.merge(from, -1L, Long::sum);
+            hours.merge(to, taskHours, BigDecimal::add);
+            counts.merge(to, 1L, Long::sum);
+        }
+        hours.forEach((key, sum) -> apply(key.getStoryId(), key.getStatusId(), counts.get(key), sum));
+    }
+
+    @Transactional(readOnly = true)
+    public StoryProgressDto getProgress(Long storyId) {
+        if (!storyRepository.existsById(storyId)) {
+            throw new EntityNotFoundException("Story not found: " + storyId);
+        }
+        long total = 0;
+        long completed = 0;
+        BigDecimal totalHours = BigDecimal.ZERO;
+        BigDecimal remainingHours = BigDecimal.ZERO;
+        Map<String, Long> byStatus = new TreeMap<>();
+        for (StoryStatusRollup rollup : rollupRepository.findByStoryId(storyId)) {
+            if (rollup.getTaskCount() == 0) {
+                continue;
+            }
+            String status = referenceData.getStatus(rollup.getStatusId()).getName();
+            byStatus.put(status, rollup.getTaskCount());
+            total += rollup.getTaskCount();
+            totalHours = totalHours.add(rollup.getEstimatedHours());
+            if (DONE_STATUS.equalsIgnoreCase(status)) {
+                completed += rollup.getTaskCount();
+            } else {
+                remainingHours = remainingHours.add(rollup.getEstimatedHours());
+            }
+        }
+        return new StoryProgressDto(storyId, total, completed, totalHours, remainingHours, byStatus);
+    }
+
+    /**
+     * Recomputes all rollups from the task table, e.g. after the initial deployment.
+     *
+     * @return the number of rollup rows written
+     */
+    @Transactional
+    public int rebuild() {
+        rollupRepository.deleteAllRows();
+        int rows = rollupRepository.insertFromTasks();
+        log.info("Rebuilt {} story status rollups", rows);
+        return rows;
+    }
+
+    /**
+     * Builds the rollups from the task table if there are none yet, as on a database upgraded
+     * from before they existed. Incremental updates would otherwise start from zero.
+     *
+     * @return the number of rollup rows written
+     */
+    @Transactional
+    public int rebuildIfEmpty() {
+        return rollupRepository.hasRows() ? 0 : rebuild();
+    }
+
+    /**
+     * Recomputes the rollups of the given stories from their live tasks, after set-based writes
+     * that do not report the individual tasks they changed.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recompute(Collection<Long> storyIds) {
+        if (storyIds.isEmpty()) {
+            return;
+        }
+        rollupRepository.deleteByStoryIds(storyIds);
+        int rows = rollupRepository.insertFromTasksOfStories(storyIds);
+        log.debug("Recomputed {} rollups of {} stories", rows, storyIds.size());
+    }
+
+    private void apply(Long storyId, Long statusId, long tasks, BigDecimal hours) {
+        if (storyId == null) {
+            return;
+        }
+        if (rollupRepository.increment(storyId, statusId, tasks, hours) == 0) {
+            rollupRepository.insertIfAbsent(storyId, statusId);
+            rollupRepository.increment(storyId, statusId, tasks, hours);
+        }
+        log.debug("Story {} status {} rollup changed by {} tasks / {} hours", storyId, statusId, tasks, hours);
+    }
+
+    private static Long storyId(Task task) {
+        return task.getStory() != null ? task.getStory().getId() : null;
+    }
+
+    private static BigDecimal hours(Task task) {
+        return task.getEstimatedHours() != null ? task.getEstimatedHours() : BigDecimal.ZERO;
+    }
+}
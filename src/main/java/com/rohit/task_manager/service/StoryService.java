@@ -1,36 +1,51 @@
 package com.rohit.task_manager.service;
 
+import com.rohit.task_manager.cache.ETag;
 import com.rohit.task_manager.domain.Priority;
 import com.rohit.task_manager.domain.Status;
 import com.rohit.task_manager.domain.Story;
 import com.rohit.task_manager.domain.User;
 import com.rohit.task_manager.dto.input.StoryRequestDto;
+import com.rohit.task_manager.dto.output.ActiveStoryDto;
+import com.rohit.task_manager.dto.output.Tagged;
+import com.rohit.task_manager.dto.output.ZonedActiveStoryDto;
+import com.rohit.task_manager.exception.BadRequestException;
 import com.rohit.task_manager.respository.StoryRepository;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @Log4j2
 public class StoryService {
 
+    static final String ACTIVE_STORIES_CACHE = "activeStoriesCache";
+    static final String ACTIVE_STORIES_KEY = "utc";
+
     private final TaskService taskService;
     private final StoryRepository storyRepository;
+    private final Cache activeStoriesCache;
+    private final PageTotals pageTotals;
 
     @Autowired
-    public StoryService(TaskService taskService, StoryRepository storyRepository) {
+    public StoryService(TaskService taskService, StoryRepository storyRepository, CacheManager cacheManager,
+                        PageTotals pageTotals) {
         this.taskService = taskService;
         this.storyRepository = storyRepository;
+        this.activeStoriesCache = cacheManager.getCache(ACTIVE_STORIES_CACHE);
+        this.pageTotals = pageTotals;
     }
 
     public Story createStory(StoryRequestDto dto) {
@@ -57,30 +72,61 @@ public class StoryService {
                 .build();
 
         Story saved = storyRepository.save(story);
+        activeStoriesCache.evict(ACTIVE_STORIES_KEY);
+        if (user != null) {
+            pageTotals.onStoryCreated(user.getId());
+        }
         log.info("Story created with ID: {}", saved.getId());
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public Page<Story> getStoriesByUser(UUID userId, Pageable pageable) {
         log.info("Fetching stories for userId: {}", userId);
         return storyRepository.findByAssignedToIdAndIsDeletedFalse(userId, pageable);
     }
 
-    @Cacheable(value = "activeStoriesCache", key = "#timeZone")
-    public List<Story> getActiveStories(String timeZone) {
+    /**
+     * {@link #getStoriesByUser} without the count query.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Story> getStorySliceByUser(UUID userId, Pageable pageable) {
+        log.info("Fetching story slice for userId: {}", userId);
+        return storyRepository.findSliceByAssignedToIdAndIsDeletedFalse(userId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public long approximateStoryTotal(UUID userId) {
+        return pageTotals.stories(userId);
+    }
+
+    /**
+     * Active stories with their timestamps expressed in the given time zone. A single UTC
+     * snapshot is cached for all zones and shifted lazily while the response is written. The
+     * snapshot's entity tag is computed once when it is loaded, so answering a conditional
+     * request only combines it with the zone.
+     */
+    public Tagged<List<ZonedActiveStoryDto>> getActiveStories(String timeZone) {
         log.info("Fetching active stories for timezone: {}", timeZone);
-        List<Story> activeStories = storyRepository.findActiveStories();
-
-        return activeStories.stream()
-                .peek(story -> {
-                    if (story.getExpectedStartDateTime() != null) {
-                        ZonedDateTime converted = ZonedDateTime.ofInstant(
-                                story.getExpectedStartDateTime(),
-                                ZoneId.of("UTC")
-                        ).withZoneSameInstant(ZoneId.of(timeZone));
-                        story.setExpectedStartDateTime(converted.toInstant());
-                    }
-                })
-                .collect(Collectors.toList());
+        ZoneId zone = zoneOf(timeZone);
+        Tagged<List<ActiveStoryDto>> snapshot = activeStoriesCache.get(ACTIVE_STORIES_KEY, this::loadActiveStories);
+        return new Tagged<>(ZonedActiveStoryDto.project(snapshot.body(), zone), ETag.of(snapshot.eTag(), zone.getId()));
+    }
+
+    private Tagged<List<ActiveStoryDto>> loadActiveStories() {
+        List<ActiveStoryDto> stories = List.copyOf(storyRepository.findActiveStories());
+        log.debug("Loaded active stories snapshot with {} stories", stories.size());
+        return new Tagged<>(stories, ETag.of(stories.toArray()));
+    }
+
+    private static ZoneId zoneOf(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            throw new BadRequestException("timeZone is required");
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException ex) {
+            throw new BadRequestException("Invalid time zone: " + timeZone);
+        }
     }
 }
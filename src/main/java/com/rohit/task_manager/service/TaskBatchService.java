@@ -0,0 +1,173 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.cache.TaskCacheInvalidator;
+import com.rohit.task_manager.cache.TaskCacheInvalidator.Mutation;
+import com.rohit.task_manager.cache.TaskDimensions;
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.dto.input.TaskRequestDto;
+import com.rohit.task_manager.dto.output.BatchTaskResultDto;
+import com.rohit.task_manager.dto.output.BatchTaskResultDto.Item;
+import com.rohit.task_manager.dto.output.BatchTaskResultDto.Outcome;
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.respository.StoryRepository;
+import com.rohit.task_manager.respository.TaskRepository;
+import com.rohit.task_manager.respository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many tasks in one request: users and stories are resolved with one query each,
+ * statuses and priorities come from the {@link ReferenceDataRegistry}, and the valid rows are
+ * inserted in JDBC batches (sequence ids with a pooled optimizer allow Hibernate to batch).
+ * Invalid items are rejected individually and do not prevent the others from being created.
+ */
+@Service
+@Log4j2
+public class TaskBatchService {
+
+    static final int MAX_ITEMS = 1000;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final StoryRepository storyRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final TaskCacheInvalidator cacheInvalidator;
+    private final TaskEventBroadcaster taskEvents;
+    private final StoryProgressService storyProgress;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public TaskBatchService(TaskRepository taskRepository, UserRepository userRepository, StoryRepository storyRepository,
+                            ReferenceDataRegistry referenceData, TaskCacheInvalidator cacheInvalidator,
+                            TaskEventBroadcaster taskEvents, StoryProgressService storyProgress, Validator validator,
+                            EntityManager entityManager,
+                            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.storyRepository = storyRepository;
+        this.referenceData = referenceData;
+        this.cacheInvalidator = cacheInvalidator;
+        this.taskEvents = taskEvents;
+        this.storyProgress = storyProgress;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public BatchTaskResultDto createTasks(List<TaskRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("At least one task is required");
+        }
+        if (requests.size() > MAX_ITEMS) {
+            throw new BadRequestException("A batch may contain at most " + MAX_ITEMS + " tasks");
+        }
+        log.info("Creating batch of {} tasks", requests.size());
+
+        Map<UUID, User> users = userRepository.findAllById(distinct(requests, TaskRequestDto::getAssignedToId)).stream()
+                .filter(user -> !user.isDeleted())
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Story> stories = storyRepository.findAllById(distinct(requests, TaskRequestDto::getStoryId)).stream()
+                .collect(Collectors.toMap(Story::getId, Function.identity()));
+
+        Item[] items = new Item[requests.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        Instant now = Instant.now();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequestDto dto = requests.get(i);
+            try {
+                tasks.add(toTask(dto, users, stories, now));
+                indexes.add(i);
+            } catch (BadRequestException | EntityNotFoundException | IllegalArgumentException ex) {
+                items[i] = new Item(i, Outcome.REJECTED, null, ex.getMessage());
+            }
+        }
+
+        List<TaskDimensions> created = new ArrayList<>(tasks.size());
+        List<TaskEvent> events = new ArrayList<>(tasks.size());
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            List<Task> chunk = tasks.subList(from, Math.min(from + batchSize, tasks.size()));
+            taskRepository.saveAll(chunk);
+            storyProgress.onTasksCreated(chunk);
+            entityManager.flush();
+            for (int j = 0; j < chunk.size(); j++) {
+                Task saved = chunk.get(j);
+                int index = indexes.get(from + j);
+                items[index] = new Item(index, Outcome.CREATED, saved.getId(), null);
+                created.add(TaskDimensions.of(saved));
+                events.add(TaskEvent.created(saved));
+            }
+            entityManager.clear();
+        }
+        cacheInvalidator.onTasksChanged(Mutation.CREATE, created);
+        taskEvents.publish(events);
+
+        log.info("Batch finished: {} created, {} rejected", created.size(), requests.size() - created.size());
+        return new BatchTaskResultDto(created.size(), requests.size() - created.size(), Arrays.asList(items));
+    }
+
+    private Task toTask(TaskRequestDto dto, Map<UUID, User> users, Map<Long, Story> stories, Instant now) {
+        if (dto == null) {
+            throw new BadRequestException("Task is required");
+        }
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        Status status = referenceData.getStatus(dto.getStatusId());
+        if ("IN_PROGRESS".equalsIgnoreCase(status.getName())
+                && (dto.getExpectedStartDateTime() == null || dto.getExpectedEndDateTime() == null)) {
+            throw new BadRequestException("Expected start/end date are mandatory for IN_PROGRESS status.");
+        }
+        Priority priority = referenceData.getPriority(dto.getPriorityId());
+        if (dto.getAssignedToId() == null) {
+            throw new BadRequestException("assignedToId is required");
+        }
+        User user = users.get(dto.getAssignedToId());
+        if (user == null) {
+            throw new EntityNotFoundException("User not found: " + dto.getAssignedToId());
+        }
+        Story story = stories.get(dto.getStoryId());
+        if (story == null) {
+            throw new EntityNotFoundException("Story not found: " + dto.getStoryId());
+        }
+
+        return Task.builder()
+                .title(dto.getTitle())
+                .estimatedHours(dto.getEstimatedHours())
+                .assignedTo(user)
+                .status(status)
+                .priority(priority)
+                .story(story)
+                .createdAt(now)
+                .expectedStartDateTime(dto.getExpectedStartDateTime())
+                .expectedEndDateTime(dto.getExpectedEndDateTime())
+                .isDeleted(false)
+                .build();
+    }
+
+    private static <T> Set<T> distinct(List<TaskRequestDto> requests, Function<TaskRequestDto, T> field) {
+        return requests.stream()
+                .filter(Objects::nonNull)
+                .map(field)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
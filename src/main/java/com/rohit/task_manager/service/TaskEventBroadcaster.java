@@ -0,0 +1,257 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed task changes out to the subscribers of {@code GET /api/v1/tasks/stream}.
+ * Publishing never blocks: each matching subscriber gets the event put in its own bounded buffer
+ * ({@code task-manager.tasks.stream.buffer-size}), which a virtual thread drains into the
+ * subscriber's connection. A subscriber whose buffer is full is too slow to keep up; it is
+ * dropped, sent a final {@code dropped} event and disconnected, so that it reconnects and reloads
+ * instead of holding up the writers or missing events silently. The number of subscribers is
+ * capped by {@code max-subscribers}.
+ */
+@Component
+@Log4j2
+public class TaskEventBroadcaster {
+
+    /**
+     * What a subscriber wants to see; {@code null} matches anything. A status change matches
+     * the status it left as well as the one it entered.
+     */
+    public record Filter(UUID userId, String status, String priority) {
+
+        boolean matches(TaskEvent event) {
+            return (userId == null || userId.equals(event.assignedToId()))
+                    && (status == null || status.equals(event.status()) || status.equals(event.previousStatus()))
+                    && (priority == null || priority.equals(event.priority()));
+        }
+    }
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Counter sent;
+    private final Counter dropped;
+
+    public TaskEventBroadcaster(MeterRegistry meterRegistry,
+                                @Value("${task-manager.tasks.stream.max-subscribers:1000}") int maxSubscribers,
+                                @Value("${task-manager.tasks.stream.buffer-size:256}") int bufferSize,
+                                @Value("${task-manager.tasks.stream.timeout:30m}") Duration timeout) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        this.sent = Counter.builder("tasks.stream.events")
+                .description("Task events written to subscribers")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tasks.stream.dropped")
+                .description("Subscribers disconnected for falling too far behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Filter filter) {
+        return subscribe(filter, new SseEmitter(timeout.toMillis()));
+    }
+
+    /**
+     * Registers {@code emitter} for the events matching {@code filter}; it is completed when
+     * the stream times out, fails or falls behind.
+     */
+    public SseEmitter subscribe(Filter filter, SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            log.warn("Rejecting task stream subscriber, {} already open", subscribers.size());
+            throw new ServiceUnavailableException("Too many open task streams, retry later");
+        }
+        Subscriber subscriber = new Subscriber(filter, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        emitter.onTimeout(emitter::complete);
+        subscribers.add(subscriber);
+        // sends the response headers right away
+        subscriber.offer(HEARTBEAT);
+        log.info("Task stream opened with {}, {} open", filter, subscribers.size());
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public void publish(TaskEvent event) {
+        publish(List.of(event));
+    }
+
+    /**
+     * Hands the events to the matching subscribers. Inside a transaction this happens after
+     * commit, and not at all on rollback.
+     */
+    public void publish(Collection<TaskEvent> events) {
+        if (events.isEmpty() || !hasSubscribers()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<TaskEvent> committed = List.copyOf(events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(committed);
+                }
+            });
+            return;
+        }
+        dispatch(events);
+    }
+
+    @Scheduled(fixedRateString = "${task-manager.tasks.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    private void dispatch(Collection<TaskEvent> events) {
+        for (Subscriber subscriber : subscribers) {
+            for (TaskEvent event : events) {
+                if (subscriber.filter.matches(event) && !subscriber.offer(event)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Filter filter;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean overflowed;
+
+        Subscriber(Filter filter, SseEmitter emitter) {
+            this.filter = filter;
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return false if the subscriber is (now) closed
+         */
+        boolean offer(Object item) {
+            if (closed) {
+                return false;
+            }
+            if (!buffer.offer(item)) {
+                overflowed = true;
+                close();
+                dropped.increment();
+                log.warn("Task stream subscriber with {} fell more than {} events behind, disconnecting it",
+                        filter, bufferSize);
+            }
+            drainLater();
+            return !closed;
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void drainLater() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * Runs on a virtual thread, so a send blocked on a slow connection parks only it.
+         */
+        private void drain() {
+            try {
+                Object item;
+                while (!closed && (item = buffer.poll()) != null) {
+                    send(item);
+                }
+            } catch (Exception ex) {
+                // the container reports the failed connection to the emitter, which completes it
+                log.debug("Task stream subscriber with {} is gone: {}", filter, ex.getMessage());
+                finished.set(true);
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (closed) {
+                finish();
+            } else if (!buffer.isEmpty()) {
+                drainLater();
+            }
+        }
+
+        private void send(Object item) throws Exception {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            TaskEvent event = (TaskEvent) item;
+            emitter.send(SseEmitter.event().name(event.type().eventName()).data(event, MediaType.APPLICATION_JSON));
+            sent.increment();
+        }
+
+        private void finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            buffer.clear();
+            try {
+                if (overflowed) {
+                    emitter.send(SseEmitter.event().name("dropped")
+                            .data("More than " + bufferSize + " events behind; reconnect and reload"));
+                }
+                emitter.complete();
+            } catch (Exception ex) {
+                log.debug("Could not complete task stream of {}: {}", filter, ex.getMessage());
+            }
+        }
+    }
+}
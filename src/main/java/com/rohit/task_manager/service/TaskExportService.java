@@ -0,0 +1,202 @@
+package com.rohit.task_manager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.dto.output.TaskSummaryDto;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.respository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.rohit.task_manager.respository.TaskSpecifications.filter;
+
+/**
+ * Writes every task matching the /tasks/filter criteria to an output stream as NDJSON or CSV.
+ * Rows are read from a server-side cursor and the persistence context is cleared after each
+ * fetch, so heap use does not depend on the number of exported rows.
+ */
+@Service
+@Log4j2
+public class TaskExportService {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String[] CSV_HEADER = {
+            "id", "title", "estimatedHours", "status", "priority", "assignedToId", "assignedToFirstName",
+            "assignedToLastName", "storyId", "expectedStartDateTime", "expectedEndDateTime", "createdAt", "updatedAt"
+    };
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException ex) {
+                throw new BadRequestException("Unsupported export format: " + value + " (use ndjson or csv)");
+            }
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+
+    public TaskExportService(TaskRepository taskRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writerFor(TaskSummaryDto.class);
+    }
+
+    /**
+     * Streams the matching tasks, newest first, and returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(UUID userId, String status, String priority, Format format, OutputStream out) throws IOException {
+        log.info("Exporting tasks as {} with userId={}, status={}, priority={}", format, userId, status, priority);
+        long rows = 0;
+        try (Stream<Task> tasks = taskRepository.streamAll(filter(userId, status, priority), FETCH_SIZE);
+             RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(toSummary(iterator.next()));
+                if (++rows % FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        log.info("Exported {} tasks as {}", rows, format);
+        return rows;
+    }
+
+    private TaskSummaryDto toSummary(Task task) {
+        return TaskSummaryDto.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .estimatedHours(task.getEstimatedHours())
+                .status(task.getStatus().getName())
+                .priority(task.getPriority().getName())
+                .assignedToId(task.getAssignedTo().getId())
+                .assignedToFirstName(task.getAssignedTo().getFirstName())
+                .assignedToLastName(task.getAssignedTo().getLastName())
+                .storyId(task.getStory() != null ? task.getStory().getId() : null)
+                .expectedStartDateTime(task.getExpectedStartDateTime())
+                .expectedEndDateTime(task.getExpectedEndDateTime())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    private interface RowWriter extends Flushable, Closeable {
+
+        void write(TaskSummaryDto row) throws IOException;
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private boolean empty = true;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            generator = jsonWriter.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void write(TaskSummaryDto row) throws IOException {
+            jsonWriter.writeValue(generator, row);
+            empty = false;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!empty) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeLine((Object[]) CSV_HEADER);
+        }
+
+        @Override
+        public void write(TaskSummaryDto row) throws IOException {
+            writeLine(row.getId(), row.getTitle(), row.getEstimatedHours(), row.getStatus(), row.getPriority(),
+                    row.getAssignedToId(), row.getAssignedToFirstName(), row.getAssignedToLastName(), row.getStoryId(),
+                    row.getExpectedStartDateTime(), row.getExpectedEndDateTime(), row.getCreatedAt(), row.getUpdatedAt());
+        }
+
+        private void writeLine(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // flush only: the response stream is owned and closed by the servlet container
+            writer.flush();
+        }
+    }
+}
@@ -1,40 +1,79 @@
 package com.rohit.task_manager.service;
 
+import com.rohit.task_manager.cache.TaskCacheInvalidator;
+import com.rohit.task_manager.cache.TaskCacheInvalidator.Mutation;
+import com.rohit.task_manager.cache.TaskDimensions;
+import com.rohit.task_manager.cache.TaskQueryKey;
 import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.dto.input.BulkTaskStatusRequest;
 import com.rohit.task_manager.dto.input.StoryRequestDto;
+import com.rohit.task_manager.dto.input.TaskCursor;
 import com.rohit.task_manager.dto.input.TaskRequestDto;
+import com.rohit.task_manager.dto.output.BulkTaskStatusResultDto;
+import com.rohit.task_manager.dto.output.BulkTaskStatusResultDto.Rejection;
+import com.rohit.task_manager.dto.output.CursorPage;
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.dto.output.TaskSummaryDto;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.exception.ConflictException;
+import com.rohit.task_manager.exception.PreconditionFailedException;
 import com.rohit.task_manager.respository.*;
+import com.rohit.task_manager.service.ContentionMetrics.Outcome;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.rohit.task_manager.respository.TaskSpecifications.filter;
+import static com.rohit.task_manager.respository.TaskSpecifications.search;
 
 @Log4j2
 @Service
 public class TaskService {
 
+    static final int MAX_CURSOR_PAGE_SIZE = 200;
+    static final int MAX_TEXT_QUERY_LENGTH = 200;
+    static final int MAX_BULK_STATUS_IDS = 10_000;
+    static final int MAX_STATUS_ATTEMPTS = 3;
+
     private final StoryRepository storyRepository;
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
-    private final StatusRepository statusRepository;
-    private final PriorityRepository priorityRepository;
+    private final UserCache userCache;
+    private final ReferenceDataRegistry referenceData;
+    private final TaskCacheInvalidator cacheInvalidator;
+    private final StoryProgressService storyProgress;
+    private final SoftDeleteService softDeletes;
+    private final ContentionMetrics contentionMetrics;
+    private final PageTotals pageTotals;
+    private final TaskEventBroadcaster taskEvents;
 
     @Autowired
-    public TaskService(StoryRepository storyRepository, TaskRepository taskRepository, UserRepository userRepo,
-                       StatusRepository statusRepo, PriorityRepository priorityRepository) {
+    public TaskService(StoryRepository storyRepository, TaskRepository taskRepository, UserCache userCache,
+                       ReferenceDataRegistry referenceData, TaskCacheInvalidator cacheInvalidator,
+                       StoryProgressService storyProgress, SoftDeleteService softDeletes,
+                       ContentionMetrics contentionMetrics, PageTotals pageTotals, TaskEventBroadcaster taskEvents) {
         this.storyRepository = storyRepository;
         this.taskRepository = taskRepository;
-        this.userRepository = userRepo;
-        this.statusRepository = statusRepo;
-        this.priorityRepository = priorityRepository;
+        this.userCache = userCache;
+        this.referenceData = referenceData;
+        this.cacheInvalidator = cacheInvalidator;
+        this.storyProgress = storyProgress;
+        this.softDeletes = softDeletes;
+        this.contentionMetrics = contentionMetrics;
+        this.pageTotals = pageTotals;
+        this.taskEvents = taskEvents;
     }
 
+    @Transactional
     public Task createTask(TaskRequestDto dto) {
         log.info("Creating task: {}", dto.getTitle());
         validateInProgressTimestamps(dto.getStatusId(), dto.getExpectedStartDateTime(), dto.getExpectedEndDateTime());
@@ -58,50 +97,252 @@ public class TaskService {
                 .build();
 
         Task saved = taskRepository.save(task);
+        storyProgress.onTaskCreated(saved);
+        cacheInvalidator.onTaskChanged(Mutation.CREATE, TaskDimensions.of(saved));
+        taskEvents.publish(TaskEvent.created(saved));
         log.info("Task created with ID: {}", saved.getId());
         return saved;
     }
 
-    @Cacheable(value = "searchTasksCache", key = "{#userId, #firstName, #expectedEnd, #status, #pageable.pageNumber, #pageable.pageSize, #pageable.sort}")
+    @Cacheable(value = "searchTasksCache",
+            key = "T(com.rohit.task_manager.cache.TaskQueryKey).search(#userId, #firstName, #expectedEnd, #status, #pageable)")
+    @Transactional(readOnly = true)
     public Page<Task> searchTasks(UUID userId, String firstName, Instant expectedEnd, String status, Pageable pageable) {
         log.info("Searching tasks from DB with filters: userId={}, firstName={}, expectedEnd={}, status={}",
                 userId, firstName, expectedEnd, status);
-        return taskRepository.searchTasks(userId, firstName, expectedEnd, status, pageable);
+        return taskRepository.findAll(search(userId, firstName, expectedEnd, status), pageable);
     }
 
-    @Cacheable(value = "filterTasksCache", key = "{#userId, #status, #priority, #pageable.pageNumber, #pageable.pageSize, #pageable.sort}")
+    @Cacheable(value = "filterTasksCache",
+            key = "T(com.rohit.task_manager.cache.TaskQueryKey).filter(#userId, #status, #priority, #pageable)")
+    @Transactional(readOnly = true)
     public Page<Task> filterTasks(UUID userId, String status, String priority, Pageable pageable) {
         log.info("Filtering tasks from DB with userId={}, status={}, priority={}", userId, status, priority);
-        return taskRepository.filterTasks(userId, status, priority, pageable);
+        return taskRepository.findAll(filter(userId, status, priority), pageable);
+    }
+
+    /**
+     * {@link #searchTasks} without the count query: one extra row is fetched to tell whether a
+     * next page exists.
+     */
+    @Cacheable(value = "searchTasksCache",
+            key = "T(com.rohit.task_manager.cache.TaskQueryKey).search(#userId, #firstName, #expectedEnd, #status, #pageable).asSlice()")
+    @Transactional(readOnly = true)
+    public Slice<Task> searchTaskSlice(UUID userId, String firstName, Instant expectedEnd, String status, Pageable pageable) {
+        log.info("Searching task slice from DB with filters: userId={}, firstName={}, expectedEnd={}, status={}",
+                userId, firstName, expectedEnd, status);
+        return taskRepository.findBy(search(userId, firstName, expectedEnd, status), query -> query.slice(pageable));
+    }
+
+    @Cacheable(value = "filterTasksCache",
+            key = "T(com.rohit.task_manager.cache.TaskQueryKey).filter(#userId, #status, #priority, #pageable).asSlice()")
+    @Transactional(readOnly = true)
+    public Slice<Task> filterTaskSlice(UUID userId, String status, String priority, Pageable pageable) {
+        log.info("Filtering task slice from DB with userId={}, status={}, priority={}", userId, status, priority);
+        return taskRepository.findBy(filter(userId, status, priority), query -> query.slice(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public long approximateSearchTotal(UUID userId, String firstName, Instant expectedEnd, String status) {
+        return pageTotals.tasks(TaskQueryKey.search(userId, firstName, expectedEnd, status, Pageable.ofSize(1)),
+                search(userId, firstName, expectedEnd, status));
+    }
+
+    @Transactional(readOnly = true)
+    public long approximateFilterTotal(UUID userId, String status, String priority) {
+        return pageTotals.tasks(TaskQueryKey.filter(userId, status, priority, Pageable.ofSize(1)),
+                filter(userId, status, priority));
+    }
+
+    /**
+     * Ranked full-text search over task titles and story descriptions. Not cached: free-text
+     * queries rarely repeat, and the GIN indexes keep each lookup cheap.
+     */
+    @Transactional(readOnly = true)
+    public Page<Task> searchTasksByText(String text, Pageable pageable) {
+        if (text == null || text.isBlank()) {
+            throw new BadRequestException("q is required");
+        }
+        if (text.length() > MAX_TEXT_QUERY_LENGTH) {
+            throw new BadRequestException("q must be at most " + MAX_TEXT_QUERY_LENGTH + " characters");
+        }
+        log.info("Full-text search of tasks from DB with q={}", text);
+        return taskRepository.findByText(text.strip(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskSummaryDto> searchTaskSummaries(UUID userId, String firstName, Instant expectedEnd, String status,
+                                                    Pageable pageable) {
+        log.info("Searching task summaries from DB with filters: userId={}, firstName={}, expectedEnd={}, status={}",
+                userId, firstName, expectedEnd, status);
+        return taskRepository.findSummaries(search(userId, firstName, expectedEnd, status), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskSummaryDto> filterTaskSummaries(UUID userId, String status, String priority, Pageable pageable) {
+        log.info("Filtering task summaries from DB with userId={}, status={}, priority={}", userId, status, priority);
+        return taskRepository.findSummaries(filter(userId, status, priority), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Task> searchTasksAfter(UUID userId, String firstName, Instant expectedEnd, String status,
+                                             TaskCursor cursor, int size) {
+        log.info("Keyset search from DB with filters: userId={}, firstName={}, expectedEnd={}, status={}, cursor={}",
+                userId, firstName, expectedEnd, status, cursor);
+        List<Task> rows = taskRepository.findAfter(search(userId, firstName, expectedEnd, status), cursor,
+                checkCursorPageSize(size) + 1);
+        return toCursorPage(rows, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Task> filterTasksAfter(UUID userId, String status, String priority, TaskCursor cursor, int size) {
+        log.info("Keyset filter from DB with userId={}, status={}, priority={}, cursor={}", userId, status, priority, cursor);
+        List<Task> rows = taskRepository.findAfter(filter(userId, status, priority), cursor,
+                checkCursorPageSize(size) + 1);
+        return toCursorPage(rows, size);
     }
 
-    @CacheEvict(value = { "searchTasksCache", "filterTasksCache" }, allEntries = true)
     public void softDeleteTask(Long id) {
         log.info("Soft deleting task with ID={}", id);
-        Task task = taskRepository.findById(id).orElseThrow();
-        task.setDeleted(true);
-        task.setUpdatedAt(Instant.now());
-        taskRepository.save(task);
-        log.info("Task with ID={} soft deleted and cache evicted", id);
+        if (softDeletes.deleteTasks(List.of(id)).getTasks() == 0 && !taskRepository.existsById(id)) {
+            throw new EntityNotFoundException("Task not found: " + id);
+        }
+        log.info("Task with ID={} soft deleted", id);
     }
 
-    public Task updateTaskStatus(Long taskId, Long statusId) {
-        log.info("Updating status for taskId={}, newStatusId={}", taskId, statusId);
-        Task task = taskRepository.findById(taskId).orElseThrow();
+    /**
+     * Compare-and-set status update: the task is moved only if its status is still the one the
+     * validation and the story progress delta were computed from. When another writer changed it
+     * in between, the task is re-read and the update retried, at most {@link #MAX_STATUS_ATTEMPTS}
+     * times. With an {@code expectedVersion} (the If-Match of the request) the version must match
+     * as well, and a mismatch is reported to the client instead of being retried.
+     */
+    @Transactional
+    public Task updateTaskStatus(Long taskId, Long statusId, Long expectedVersion) {
+        log.info("Updating status for taskId={}, newStatusId={}, expectedVersion={}", taskId, statusId, expectedVersion);
         Status status = getStatus(statusId);
 
-        if ("IN_PROGRESS".equalsIgnoreCase(status.getName())) {
-            if (task.getExpectedStartDateTime() == null || task.getExpectedEndDateTime() == null) {
-                log.warn("Invalid IN_PROGRESS timestamps for taskId={}", taskId);
-                throw new IllegalArgumentException("Expected start/end date must be set when status is IN_PROGRESS.");
+        for (int attempt = 1; ; attempt++) {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new EntityNotFoundException("Task not found: " + taskId));
+            if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                throw preconditionFailed(taskId, task.getVersion());
+            }
+            if ("IN_PROGRESS".equalsIgnoreCase(status.getName())) {
+                if (task.getExpectedStartDateTime() == null || task.getExpectedEndDateTime() == null) {
+                    log.warn("Invalid IN_PROGRESS timestamps for taskId={}", taskId);
+                    throw new IllegalArgumentException("Expected start/end date must be set when status is IN_PROGRESS.");
+                }
+            }
+
+            TaskDimensions before = TaskDimensions.of(task);
+            Status previous = task.getStatus();
+            Instant now = Instant.now();
+            // the update clears the persistence context, so the task is detached and the
+            // setters below only bring it in line with the row
+            if (taskRepository.compareAndSetStatus(taskId, previous.getId(), expectedVersion, status, now) == 1) {
+                task.setStatus(status);
+                task.setUpdatedAt(now);
+                task.setVersion(task.getVersion() + 1);
+                if (!task.isDeleted()) {
+                    storyProgress.onTaskStatusChanged(task, previous);
+                }
+                cacheInvalidator.onTaskChanged(Mutation.STATUS_CHANGE, before, TaskDimensions.of(task));
+                // like the bulk update, a task that already had the status is not announced
+                if (!previous.getId().equals(status.getId())) {
+                    taskEvents.publish(TaskEvent.statusChanged(task, previous.getName()));
+                }
+                contentionMetrics.statusUpdate(Outcome.APPLIED);
+                log.info("Task status updated successfully for taskId={} after {} attempt(s)", taskId, attempt);
+                return task;
+            }
+            if (expectedVersion != null) {
+                throw preconditionFailed(taskId, null);
+            }
+            if (attempt == MAX_STATUS_ATTEMPTS) {
+                contentionMetrics.statusUpdate(Outcome.CONFLICT);
+                log.warn("Giving up status update of taskId={} after {} concurrent changes", taskId, attempt);
+                throw new ConflictException("Task " + taskId + " keeps being modified concurrently, retry later");
+            }
+            contentionMetrics.statusUpdate(Outcome.RETRIED);
+            log.debug("Status of taskId={} changed concurrently, retrying", taskId);
+        }
+    }
+
+    private PreconditionFailedException preconditionFailed(Long taskId, Long currentVersion) {
+        contentionMetrics.statusUpdate(Outcome.PRECONDITION_FAILED);
+        log.info("If-Match of taskId={} does not match the current version {}", taskId, currentVersion);
+        return new PreconditionFailedException("Task " + taskId + " was modified, reload it and retry");
+    }
+
+    /**
+     * Set-based counterpart of {@link #updateTaskStatus}: all selected tasks are moved with a
+     * single conditional update, the IN_PROGRESS rule being part of its predicate, so the cost
+     * does not grow by two statements per task. A filter is held to the same
+     * {@link #MAX_BULK_STATUS_IDS} tasks as an id list: when it matches more, nothing is changed.
+     */
+    @Transactional
+    public BulkTaskStatusResultDto updateTaskStatuses(BulkTaskStatusRequest request) {
+        Status status = getStatus(request.getStatusId());
+        List<Long> ids = request.getTaskIds();
+        if (ids == null && request.getUserId() == null && request.getStoryId() == null
+                && request.getCurrentStatus() == null) {
+            throw new BadRequestException("taskIds or a filter (userId, storyId, currentStatus) is required");
+        }
+        if (ids != null && (ids.isEmpty() || ids.size() > MAX_BULK_STATUS_IDS)) {
+            throw new BadRequestException("taskIds must contain between 1 and " + MAX_BULK_STATUS_IDS + " ids");
+        }
+        Long currentStatusId = request.getCurrentStatus() == null ? null
+                : referenceData.findStatusByName(request.getCurrentStatus())
+                .orElseThrow(() -> new BadRequestException("Unknown status: " + request.getCurrentStatus()))
+                .getId();
+        boolean requireSchedule = "IN_PROGRESS".equalsIgnoreCase(status.getName());
+        log.info("Bulk status update to {} for ids={}, userId={}, storyId={}, currentStatus={}", status.getName(),
+                ids == null ? null : ids.size(), request.getUserId(), request.getStoryId(), request.getCurrentStatus());
+
+        Instant now = Instant.now();
+        List<TaskStatusTransition> transitions = taskRepository.transitionStatus(ids, request.getUserId(),
+                request.getStoryId(), currentStatusId, status.getId(), requireSchedule, now, MAX_BULK_STATUS_IDS + 1);
+        if (transitions.size() > MAX_BULK_STATUS_IDS) {
+            // rolls the update back
+            throw new BadRequestException("The filter matches more than " + MAX_BULK_STATUS_IDS
+                    + " tasks, narrow it or pass taskIds");
+        }
+
+        List<Long> changed = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        List<Rejection> rejected = new ArrayList<>();
+        List<TaskDimensions> affected = new ArrayList<>();
+        List<TaskEvent> events = new ArrayList<>();
+        for (TaskStatusTransition transition : transitions) {
+            if (transition.changed()) {
+                changed.add(transition.id());
+                TaskDimensions before = new TaskDimensions(transition.assignedToId(), transition.assignedToFirstName(),
+                        transition.expectedEnd(), getStatus(transition.previousStatusId()).getName(),
+                        getPriority(transition.priorityId()).getName());
+                affected.add(before);
+                affected.add(before.withStatus(status.getName()));
+                events.add(new TaskEvent(TaskEvent.Type.STATUS_CHANGE, transition.id(), transition.assignedToId(),
+                        status.getName(), before.status(), before.priority(), now));
+            } else if (Objects.equals(transition.previousStatusId(), status.getId())) {
+                unchanged.add(transition.id());
+            } else {
+                rejected.add(new Rejection(transition.id(),
+                        "Expected start/end date must be set when status is IN_PROGRESS."));
             }
         }
+        if (ids != null) {
+            Set<Long> selected = transitions.stream().map(TaskStatusTransition::id).collect(Collectors.toSet());
+            ids.stream().distinct().filter(id -> !selected.contains(id)).sorted()
+                    .forEach(id -> rejected.add(new Rejection(id, "Task not found or not matching the filter")));
+        }
 
-        task.setStatus(status);
-        task.setUpdatedAt(Instant.now());
-        Task updated = taskRepository.save(task);
-        log.info("Task status updated successfully for taskId={}", taskId);
-        return updated;
+        storyProgress.onTasksStatusChanged(transitions, status.getId());
+        cacheInvalidator.onTasksChanged(Mutation.STATUS_CHANGE, affected);
+        taskEvents.publish(events);
+        log.info("Bulk status update finished: {} changed, {} unchanged, {} rejected",
+                changed.size(), unchanged.size(), rejected.size());
+        return new BulkTaskStatusResultDto(changed, unchanged, rejected);
     }
 
     public void validateInProgressTimestamps(Long statusId, Instant start, Instant end) {
@@ -114,20 +355,42 @@ public class TaskService {
         }
     }
 
+    private int checkCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * Rows are fetched with one extra element: its presence tells that a next page exists
+     * without running a count query.
+     */
+    private CursorPage<Task> toCursorPage(List<Task> rows, int size) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, rows.size(), null);
+        }
+        List<Task> content = rows.subList(0, size);
+        return new CursorPage<>(content, size, TaskCursor.of(content.get(size - 1)).encode());
+    }
+
+    /**
+     * Only live users can be assigned: deleting a user deletes their tasks and stories, and the
+     * listings rely on no live task pointing to a deleted user.
+     */
     public User getUser(UUID id) {
         if (id == null) return null;
         log.debug("Fetching user with ID: {}", id);
-        return userRepository.findById(id).orElseThrow();
+        return userCache.findActive(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + id));
     }
 
     public Status getStatus(Long id) {
-        log.debug("Fetching status with ID: {}", id);
-        return statusRepository.findById(id).orElseThrow();
+        return referenceData.getStatus(id);
     }
 
     public Priority getPriority(Long id) {
-        log.debug("Fetching priority with ID: {}", id);
-        return priorityRepository.findById(id).orElseThrow();
+        return referenceData.getPriority(id);
     }
 
 }
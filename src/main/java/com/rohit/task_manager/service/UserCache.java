@@ -0,0 +1,100 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.domain.User;
+import com.rohit.task_manager.respository.UserRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Users by id, shared by the user endpoints and task and story assignment. A cached user keeps
+ * its {@code isDeleted} flag, so a soft-deleted user is answered from the cache as well, and ids
+ * with no user at all are remembered in a separate, smaller cache: probes for unknown ids hit the
+ * database once per id and cannot push live users out. Concurrent misses for the same id share
+ * one query.
+ * <p>
+ * The cached entities are shared between requests and must be treated as read-only. Anything
+ * that changes a user calls {@link #evict}; entries are otherwise bounded by the TTL of
+ * {@code usersCache} and {@code missingUsersCache}, which is how long another instance may keep
+ * serving a user that was changed elsewhere.
+ */
+@Component
+@Log4j2
+public class UserCache {
+
+    static final String USERS_CACHE = "usersCache";
+    static final String MISSING_USERS_CACHE = "missingUsersCache";
+
+    private final UserRepository userRepository;
+    private final Cache users;
+    private final Cache missing;
+
+    public UserCache(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.users = cacheManager.getCache(USERS_CACHE);
+        this.missing = cacheManager.getCache(MISSING_USERS_CACHE);
+    }
+
+    /**
+     * @return the user, unless there is none or it is soft-deleted
+     */
+    public Optional<User> findActive(UUID id) {
+        return find(id).filter(user -> !user.isDeleted());
+    }
+
+    /**
+     * @return the user, including a soft-deleted one
+     */
+    public Optional<User> find(UUID id) {
+        if (id == null || missing.get(id) != null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(users.get(id, () -> load(id)));
+    }
+
+    /**
+     * Drops the given users from the cache. Inside a transaction this happens after commit, so
+     * that a concurrent lookup cannot cache the state from before the change again.
+     */
+    public void evict(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<UUID> evicted = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(evicted);
+                }
+            });
+            return;
+        }
+        evictNow(ids);
+    }
+
+    private User load(UUID id) {
+        User user = userRepository.findById(id).orElse(null);
+        if (user == null) {
+            log.debug("No user with ID {}, caching the miss", id);
+            missing.put(id, Boolean.TRUE);
+        }
+        return user;
+    }
+
+    private void evictNow(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            users.evict(id);
+            missing.evict(id);
+        }
+        log.debug("Evicted {} users from the cache", ids.size());
+    }
+}
@@ -0,0 +1,136 @@
+package com.rohit.task_manager.service;
+
+import com.rohit.task_manager.cache.BloomFilter;
+import com.rohit.task_manager.respository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory Bloom filter of every email in {@code users} (deleted users keep theirs), built at
+ * startup and fed by user creation, so that most duplicate-email checks need no query: an email
+ * the filter has never seen is free, and only possible hits are looked up. The unique constraint
+ * on {@code users.email} stays the final arbiter, which makes the filter safe to be incomplete:
+ * an email taken by another instance or during a rebuild is simply rejected by the insert.
+ * <p>
+ * The filter is sized for {@code task-manager.users.email-filter.expected-insertions} or twice the
+ * current user count, whichever is larger, and is rebuilt at twice the size once that is exceeded.
+ * The rebuild runs on a virtual thread of its own, without holding a lock, while checks go on
+ * against the full filter; a single rebuild runs at a time. {@code users.email.checks} counts the outcomes; a high {@code false_positive} share means it is
+ * undersized.
+ */
+@Component
+@Log4j2
+public class UserEmailFilter {
+
+    private record Sized(BloomFilter filter, long capacity) {
+    }
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositive;
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicBoolean growing = new AtomicBoolean();
+    private final ExecutorService rebuilds = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile Sized current;
+
+    public UserEmailFilter(UserRepository userRepository, MeterRegistry meterRegistry,
+                           @Value("${task-manager.users.email-filter.enabled:true}") boolean enabled,
+                           @Value("${task-manager.users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                           @Value("${task-manager.users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.absent = checks(meterRegistry, "absent");
+        this.present = checks(meterRegistry, "present");
+        this.falsePositive = checks(meterRegistry, "false_positive");
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Email filter disabled, every duplicate-email check queries the database");
+            return;
+        }
+        rebuild(expectedInsertions);
+    }
+
+    /**
+     * @return whether a user (deleted or not) already has the email
+     */
+    public boolean isTaken(String email) {
+        Sized sized = current;
+        if (sized != null && !sized.filter().mightContain(email)) {
+            absent.increment();
+            return false;
+        }
+        boolean taken = userRepository.existsByEmail(email);
+        (taken ? present : falsePositive).increment();
+        return taken;
+    }
+
+    /**
+     * Records the email of a user that was just created.
+     */
+    public void add(String email) {
+        Sized sized = current;
+        if (sized == null) {
+            return;
+        }
+        sized.filter().put(email);
+        if (insertions.incrementAndGet() > sized.capacity() && growing.compareAndSet(false, true)) {
+            rebuilds.execute(() -> grow(sized));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilds.shutdownNow();
+    }
+
+    private void grow(Sized full) {
+        try {
+            if (current == full) {
+                rebuild(full.capacity() * 2);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not grow the email filter, keeping the current one: {}", ex.getMessage());
+        } finally {
+            growing.set(false);
+        }
+    }
+
+    private void rebuild(long minimumCapacity) {
+        List<String> emails = userRepository.findAllEmails();
+        long capacity = Math.max(minimumCapacity, emails.size() * 2L);
+        BloomFilter filter = new BloomFilter(capacity, falsePositiveRate);
+        emails.forEach(filter::put);
+        insertions.set(emails.size());
+        current = new Sized(filter, capacity);
+        log.info("Built email filter from {} users: {} KB, {} hashes, capacity {}", emails.size(),
+                filter.bitSize() / 8 / 1024, filter.hashCount(), capacity);
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("users.email.checks")
+                .description("Duplicate-email checks by outcome; only present and false_positive query the database")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
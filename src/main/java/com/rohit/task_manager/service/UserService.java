@@ -2,14 +2,17 @@ package com.rohit.task_manager.service;
 
 import com.rohit.task_manager.domain.User;
 import com.rohit.task_manager.dto.input.UserCreateRequest;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
 import com.rohit.task_manager.dto.output.UserDto;
 import com.rohit.task_manager.exception.BadRequestException;
 import com.rohit.task_manager.respository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -17,19 +20,30 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final SoftDeleteService softDeletes;
+    private final UserEmailFilter emailFilter;
+    private final UserCache userCache;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, SoftDeleteService softDeletes, UserEmailFilter emailFilter,
+                       UserCache userCache) {
         this.userRepository = userRepository;
+        this.softDeletes = softDeletes;
+        this.emailFilter = emailFilter;
+        this.userCache = userCache;
     }
 
+    /**
+     * Emails the filter has never seen go straight to the insert; the unique constraint rejects
+     * any that were taken concurrently or by another instance.
+     */
     public UserDto createUser(UserCreateRequest request) {
         log.info("Creating user with email: {}", request.getEmail());
 
-        userRepository.findByEmail(request.getEmail()).ifPresent(existing -> {
+        if (emailFilter.isTaken(request.getEmail())) {
             log.warn("User with email {} already exists", request.getEmail());
             throw new BadRequestException("Email already exists");
-        });
+        }
 
         User user = User.builder()
                 .firstName(request.getFirstName())
@@ -40,7 +54,14 @@ public class UserService {
                 .isDeleted(false)
                 .build();
 
-        User saved = userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("User with email {} already exists: {}", request.getEmail(), e.getMostSpecificCause().getMessage());
+            throw new BadRequestException("Email already exists");
+        }
+        emailFilter.add(saved.getEmail());
         log.info("User created successfully with ID: {}", saved.getId());
         return mapToDto(saved);
     }
@@ -48,7 +69,7 @@ public class UserService {
     public UserDto getUserById(UUID id) {
         log.info("Fetching user with ID: {}", id);
 
-        User user = userRepository.getUserById(id)
+        User user = userCache.findActive(id)
                 .orElseThrow(() -> {
                     log.error("User with ID {} not found or deleted", id);
                     return new EntityNotFoundException("User not found or deleted!");
@@ -58,17 +79,20 @@ public class UserService {
         return mapToDto(user);
     }
 
-    public void softDeleteUser(UUID id) {
+    /**
+     * Marks the user deleted together with their stories and tasks.
+     */
+    public SoftDeleteResultDto softDeleteUser(UUID id) {
         log.info("Soft deleting user with ID: {}", id);
 
-        User user = userRepository.findById(id).orElseThrow(() -> {
+        SoftDeleteResultDto result = softDeletes.deleteUsers(List.of(id));
+        if (result.getUsers() == 0) {
             log.error("User with ID {} not found", id);
-            return new EntityNotFoundException("User not found!");
-        });
-
-        user.setDeleted(true);
-        userRepository.save(user);
-        log.info("User with ID {} marked as deleted", id);
+            throw new EntityNotFoundException("User not found!");
+        }
+        log.info("User with ID {} marked as deleted with {} stories and {} tasks", id, result.getStories(),
+                result.getTasks());
+        return result;
     }
 
     private UserDto mapToDto(User user) {
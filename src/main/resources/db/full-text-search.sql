@@ -0,0 +1,11 @@
+-- Full-text search over task titles and story descriptions (GET /api/v1/tasks/search/text).
+-- Applied at startup on Postgres after Hibernate has updated the schema; every statement is
+-- idempotent. The tsvector columns are generated columns, so Postgres recomputes them on every
+-- insert and update and they never drift from the text they index.
+ALTER TABLE task ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(title, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_task_search_vector ON task USING GIN (search_vector);
+
+ALTER TABLE stories ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(description, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_stories_search_vector ON stories USING GIN (search_vector);
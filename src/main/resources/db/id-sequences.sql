@@ -0,0 +1,13 @@
+-- Moves task_seq and story_seq past the ids the tables already hold. Databases created before the
+-- sequences existed assigned ids through IDENTITY columns, while Hibernate creates the sequences
+-- starting at 1. Applied at startup on Postgres after Hibernate has updated the schema; a
+-- sequence that is already ahead is left alone, so every start is a no-op after the first.
+-- Hibernate's pooled optimizer hands out (value - 49 .. value), so setval(max(id)) makes the next
+-- block start at max(id) + 1.
+SELECT setval('task_seq', (SELECT MAX(id) FROM task))
+WHERE (SELECT MAX(id) FROM task) >
+      (SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM task_seq);
+
+SELECT setval('story_seq', (SELECT MAX(id) FROM stories))
+WHERE (SELECT MAX(id) FROM stories) >
+      (SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM story_seq);
@@ -0,0 +1,51 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.config.FullTextSearchSchema;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Runs against a real Postgres: the one named by {@code TEST_POSTGRES_URL} (with
+ * {@code TEST_POSTGRES_USER} / {@code TEST_POSTGRES_PASSWORD}) when set, otherwise a
+ * {@code postgres:14} container shared by all subclasses. Used for the Postgres-only SQL (full-text
+ * search, data-modifying CTEs) that H2 cannot run; subclasses add {@code @EnabledIf("postgresAvailable")}
+ * (the condition is not inherited) so they are skipped when neither is available.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FullTextSearchSchema.class)
+abstract class AbstractPostgresTest {
+
+    private static final String LOCAL_URL = System.getenv("TEST_POSTGRES_URL");
+
+    private static PostgreSQLContainer<?> postgres;
+
+    static boolean postgresAvailable() {
+        return LOCAL_URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        if (LOCAL_URL != null) {
+            registry.add("spring.datasource.url", () -> LOCAL_URL);
+            registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("TEST_POSTGRES_USER", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("TEST_POSTGRES_PASSWORD", ""));
+            return;
+        }
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>("postgres:14");
+            postgres.start();
+        }
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+}
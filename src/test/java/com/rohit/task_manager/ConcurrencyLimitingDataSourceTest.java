@@ -0,0 +1,60 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.config.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1");
+        dataSource = new ConcurrencyLimitingDataSource(h2, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_failsWhenAllPermitsAreInUse() throws Exception {
+        try (Connection first = dataSource.getConnection()) {
+            assertTrue(first.isValid(1));
+            assertEquals(0, dataSource.getAvailablePermits());
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+        try (Connection second = dataSource.getConnection()) {
+            assertTrue(second.isValid(1));
+        }
+    }
+
+    @Test
+    void close_releasesThePermitOnlyOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void close_closesTheTargetPool() throws Exception {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:limiter-pool");
+        ConcurrencyLimitingDataSource limited = new ConcurrencyLimitingDataSource(pool, 1, Duration.ofMillis(50));
+        try (Connection connection = limited.getConnection()) {
+            assertTrue(connection.isValid(1));
+        }
+
+        limited.close();
+
+        assertTrue(pool.isClosed());
+    }
+}
@@ -0,0 +1,57 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.cache.ETag;
+import com.rohit.task_manager.domain.Status;
+import com.rohit.task_manager.domain.Task;
+import com.rohit.task_manager.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagTest {
+
+    @Test
+    void pageTag_changesWithTaskVersionsAndPaging() {
+        String tag = ETag.of(page(0, task(1L, 0L), task(2L, 3L)));
+
+        assertEquals(tag, ETag.of(page(0, task(1L, 0L), task(2L, 3L))));
+        assertNotEquals(tag, ETag.of(page(0, task(1L, 0L), task(2L, 4L))));
+        assertNotEquals(tag, ETag.of(page(0, task(2L, 3L), task(1L, 0L))));
+        assertNotEquals(tag, ETag.of(page(1, task(1L, 0L), task(2L, 3L))));
+    }
+
+    @Test
+    void pageTag_changesWithTheEmbeddedAssigneeAndStatus() {
+        Task task = task(1L, 0L);
+        task.setAssignedTo(User.builder().firstName("Rohit").lastName("Sharma").email("rohit@example.com").build());
+        task.setStatus(new Status(1L, "TODO"));
+        String tag = ETag.of(page(0, task));
+
+        task.getAssignedTo().setLastName("Verma");
+        String renamed = ETag.of(page(0, task));
+        assertNotEquals(tag, renamed);
+
+        task.getStatus().setName("OPEN");
+        assertNotEquals(renamed, ETag.of(page(0, task)));
+    }
+
+    @Test
+    void tag_isWeakAndSeparatesParts() {
+        String tag = ETag.of("ab", "c");
+
+        assertTrue(tag.startsWith("W/\"") && tag.endsWith("\""));
+        assertNotEquals(tag, ETag.of("a", "bc"));
+    }
+
+    private static PageImpl<Task> page(int number, Task... tasks) {
+        return new PageImpl<>(List.of(tasks), PageRequest.of(number, 2), 10);
+    }
+
+    private static Task task(Long id, Long version) {
+        return Task.builder().id(id).version(version).build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.config.IdSequences;
+import com.rohit.task_manager.domain.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIf("postgresAvailable")
+@Import(IdSequences.class)
+class IdSequencesTest extends AbstractPostgresTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdSequences idSequences;
+
+    @Test
+    void align_movesSequencesThatAreBehindPastTheExistingIds() {
+        Status todo = entityManager.persist(new Status("TODO"));
+        Priority high = entityManager.persist(new Priority("HIGH"));
+        User user = entityManager.persist(User.builder().firstName("Rohit").lastName("Sharma")
+                .email("rohit@example.com").timeZone("Asia/Kolkata").build());
+        Story story = entityManager.persist(Story.builder().title("Invoices").description("Billing").storyPoints(3)
+                .assignedTo(user).status(todo).priority(high).createdAt(Instant.now()).build());
+        Task task = entityManager.persist(Task.builder().title("Export").estimatedHours(BigDecimal.ONE).story(story)
+                .assignedTo(user).status(todo).priority(high).createdAt(Instant.now()).build());
+        entityManager.flush();
+        // as if the rows had been inserted through the old IDENTITY columns
+        jdbcTemplate.execute("UPDATE task SET id = 700 WHERE id = " + task.getId());
+        jdbcTemplate.queryForObject("SELECT setval('task_seq', 1, false)", Long.class);
+        jdbcTemplate.queryForObject("SELECT setval('story_seq', 1, false)", Long.class);
+
+        idSequences.align();
+
+        assertEquals(701, nextBlockStart("task_seq"));
+        assertEquals(story.getId() + 1, nextBlockStart("story_seq"));
+
+        idSequences.align();
+        assertEquals(751, nextBlockStart("task_seq"));
+    }
+
+    /** The first id Hibernate's pooled optimizer takes from the next sequence value. */
+    private long nextBlockStart(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class) - 49;
+    }
+}
@@ -0,0 +1,185 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.config.ConcurrencyLimitingDataSource;
+import com.rohit.task_manager.config.ReadReplica;
+import com.rohit.task_manager.config.ReadReplica.Route;
+import com.rohit.task_manager.config.ReadReplicaConfig;
+import com.rohit.task_manager.config.ReadYourWritesFilter;
+import com.rohit.task_manager.config.ReplicaRoutingDataSource;
+import com.rohit.task_manager.config.VirtualThreadConfig;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaTest {
+
+    private JdbcTemplate replicaDb;
+    private ReadReplica replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primaryDataSource = h2("primary");
+        JdbcDataSource replicaDataSource = h2("replica");
+        new JdbcTemplate(primaryDataSource).execute("CREATE TABLE IF NOT EXISTS marker AS SELECT 'primary' AS name");
+        replicaDb = new JdbcTemplate(replicaDataSource);
+        replicaDb.execute("CREATE TABLE IF NOT EXISTS marker AS SELECT 'replica' AS name");
+        replicaDb.execute("CREATE TABLE IF NOT EXISTS lag (seconds DOUBLE)");
+        replicaDb.update("DELETE FROM lag");
+        replicaDb.update("INSERT INTO lag VALUES (0.5)");
+
+        replica = new ReadReplica(replicaDataSource, "SELECT seconds FROM lag", Duration.ofSeconds(2));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primaryDataSource, replica);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void unpin() {
+        ReadReplica.unpin();
+    }
+
+    @Test
+    void readOnlyTransactions_useTheReplicaOnceItsLagIsKnown() {
+        assertEquals("primary", readFrom(readOnly));
+        assertEquals(1, replica.getReads(Route.FALLBACK));
+
+        replica.checkLag();
+
+        assertEquals(Duration.ofMillis(500), replica.getLag());
+        assertEquals("replica", readFrom(readOnly));
+        assertEquals("primary", readFrom(readWrite));
+        assertEquals(1, replica.getReads(Route.REPLICA));
+    }
+
+    @Test
+    void readOnlyTransactions_fallBackToThePrimaryWhileTheReplicaLags() {
+        replicaDb.update("UPDATE lag SET seconds = 10");
+        replica.checkLag();
+
+        assertFalse(replica.isUsable());
+        assertEquals("primary", readFrom(readOnly));
+
+        replicaDb.update("UPDATE lag SET seconds = 0");
+        replica.checkLag();
+
+        assertEquals("replica", readFrom(readOnly));
+    }
+
+    @Test
+    void readOnlyTransactions_fallBackToThePrimaryWhenTheReplicaIsUnreachable() {
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        ReadReplica unreachable = new ReadReplica(missing, "SELECT 0", Duration.ofSeconds(2));
+        unreachable.checkLag();
+
+        assertNull(unreachable.getLag());
+        assertFalse(unreachable.isUsable());
+    }
+
+    @Test
+    void pinnedThreads_readFromThePrimary() {
+        replica.checkLag();
+        ReadReplica.pinToPrimary();
+
+        assertEquals("primary", readFrom(readOnly));
+        assertEquals(1, replica.getReads(Route.PINNED));
+    }
+
+    @Test
+    void readYourWritesFilter_pinsWritesAndTheRequestsThatFollowThem() throws Exception {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5), clock);
+
+        MockHttpServletResponse written = new MockHttpServletResponse();
+        assertTrue(pinnedDuring(filter, new MockHttpServletRequest("POST", "/api/v1/tasks"), written));
+        String setCookie = written.getHeader(HttpHeaders.SET_COOKIE);
+        assertTrue(setCookie.startsWith("PRIMARY_UNTIL=" + (clock.millis() + 5000) + ";"), setCookie);
+        assertTrue(setCookie.contains("Path=/api/v1"), setCookie);
+
+        MockHttpServletRequest sticky = new MockHttpServletRequest("GET", "/api/v1/tasks/filter");
+        sticky.setCookies(new Cookie("PRIMARY_UNTIL", Long.toString(clock.millis() + 1)));
+        assertTrue(pinnedDuring(filter, sticky, new MockHttpServletResponse()));
+
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/v1/tasks/filter");
+        expired.setCookies(new Cookie("PRIMARY_UNTIL", Long.toString(clock.millis())));
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        assertFalse(pinnedDuring(filter, expired, read));
+        assertNull(read.getHeader(HttpHeaders.SET_COOKIE));
+        assertFalse(ReadReplica.isPinnedToPrimary());
+    }
+
+    @Test
+    void virtualThreads_gateThePrimaryAndReplicaPoolsSeparately() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+                .withUserConfiguration(ReadReplicaConfig.class, VirtualThreadConfig.class)
+                .withPropertyValues("spring.threads.virtual.enabled=true",
+                        "spring.datasource.url=jdbc:h2:mem:gated-primary",
+                        "spring.datasource.hikari.maximum-pool-size=5",
+                        "task-manager.datasource.replica.url=jdbc:h2:mem:gated-replica",
+                        "task-manager.datasource.replica.maximum-pool-size=3")
+                .run(context -> {
+                    assertInstanceOf(ReplicaRoutingDataSource.class, context.getBean(DataSource.class));
+                    assertEquals(5, context.getBean("primaryDataSource", ConcurrencyLimitingDataSource.class)
+                            .getAvailablePermits());
+                    assertEquals(3, context.getBean("replicaDataSource", ConcurrencyLimitingDataSource.class)
+                            .getAvailablePermits());
+
+                    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean("databasePermitMetrics", MeterBinder.class).bindTo(registry);
+                    assertEquals(3.0, registry.get("db.permits.available").tag("datasource", "replicaDataSource")
+                            .gauge().value());
+                });
+    }
+
+    private String readFrom(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static boolean pinnedDuring(ReadYourWritesFilter filter, MockHttpServletRequest request,
+                                        MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                pinned.set(ReadReplica.isPinnedToPrimary());
+            }
+        });
+        return pinned.get();
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,62 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.domain.Priority;
+import com.rohit.task_manager.domain.Status;
+import com.rohit.task_manager.respository.PriorityRepository;
+import com.rohit.task_manager.respository.StatusRepository;
+import com.rohit.task_manager.service.ReferenceDataRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+    @Mock private StatusRepository statusRepository;
+    @Mock private PriorityRepository priorityRepository;
+
+    private ReferenceDataRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        when(statusRepository.findAll()).thenReturn(List.of(new Status(1L, "TODO"), new Status(2L, "IN_PROGRESS")));
+        when(priorityRepository.findAll()).thenReturn(List.of(new Priority(1L, "LOW")));
+        registry = new ReferenceDataRegistry(statusRepository, priorityRepository);
+        registry.refresh();
+    }
+
+    @Test
+    void lookups_areServedFromMemory() {
+        assertEquals("IN_PROGRESS", registry.getStatus(2L).getName());
+        assertEquals(2L, registry.findStatusByName("IN_PROGRESS").orElseThrow().getId());
+        assertEquals("LOW", registry.getPriority(1L).getName());
+        registry.getStatus(1L);
+
+        verify(statusRepository, times(1)).findAll();
+        verifyNoMoreInteractions(statusRepository);
+    }
+
+    @Test
+    void unknownIds_throwEntityNotFound() {
+        assertThrows(EntityNotFoundException.class, () -> registry.getStatus(9L));
+        assertThrows(EntityNotFoundException.class, () -> registry.getPriority(9L));
+        assertTrue(registry.findPriorityByName("HIGH").isEmpty());
+    }
+
+    @Test
+    void refresh_replacesSnapshot() {
+        when(priorityRepository.findAll()).thenReturn(List.of(new Priority(1L, "LOW"), new Priority(2L, "HIGH")));
+
+        registry.refresh();
+
+        assertEquals("HIGH", registry.getPriority(2L).getName());
+    }
+}
@@ -0,0 +1,43 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.dto.input.PageTotal;
+import com.rohit.task_manager.dto.output.ResultPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultPageTest {
+
+    @Test
+    void of_page_marksTheCountExact() {
+        ResultPage<String> page = ResultPage.of(new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 5));
+
+        assertEquals(5L, page.getTotalElements());
+        assertEquals(PageTotal.EXACT, page.getTotal());
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    void of_slice_withoutTotal() {
+        ResultPage<String> page = ResultPage.of(new SliceImpl<>(List.of("a"), PageRequest.of(3, 2), false), null);
+
+        assertNull(page.getTotalElements());
+        assertEquals(PageTotal.NONE, page.getTotal());
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    void of_slice_raisesAnApproximateTotalToTheRowsSeen() {
+        ResultPage<String> stale = ResultPage.of(new SliceImpl<>(List.of("a", "b"), PageRequest.of(2, 2), true), 3L);
+        ResultPage<String> estimate = ResultPage.of(new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true), 1000L);
+
+        assertEquals(7L, stale.getTotalElements());
+        assertEquals(1000L, estimate.getTotalElements());
+        assertEquals(PageTotal.APPROXIMATE, estimate.getTotal());
+    }
+}
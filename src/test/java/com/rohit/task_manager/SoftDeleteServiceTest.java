@@ -0,0 +1,194 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.cache.TaskCacheInvalidator;
+import com.rohit.task_manager.cache.TaskCacheInvalidator.Mutation;
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.respository.StoryStatusRollupRepository;
+import com.rohit.task_manager.service.PageTotals;
+import com.rohit.task_manager.service.ReferenceDataRegistry;
+import com.rohit.task_manager.service.SoftDeleteService;
+import com.rohit.task_manager.service.StoryProgressService;
+import com.rohit.task_manager.service.TaskEventBroadcaster;
+import com.rohit.task_manager.service.UserCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:softdelete;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SoftDeleteService.class, StoryProgressService.class, SoftDeleteServiceTest.Caches.class})
+class SoftDeleteServiceTest {
+
+    @TestConfiguration
+    static class Caches {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private StoryProgressService storyProgressService;
+
+    @Autowired
+    private StoryStatusRollupRepository rollupRepository;
+
+    @MockitoBean
+    private ReferenceDataRegistry referenceData;
+
+    @MockitoBean
+    private TaskCacheInvalidator cacheInvalidator;
+
+    @MockitoBean
+    private UserCache userCache;
+
+    @MockitoBean
+    private PageTotals pageTotals;
+
+    @MockitoBean
+    private TaskEventBroadcaster taskEvents;
+
+    private User owner;
+    private User other;
+    private Story ownersStory;
+    private Story othersStory;
+    private Task ownersTaskInOthersStory;
+    private Task othersTask;
+
+    @BeforeEach
+    void setUp() {
+        Status todo = entityManager.persist(new Status("TODO"));
+        Priority high = entityManager.persist(new Priority("HIGH"));
+        owner = entityManager.persist(user("owner@example.com"));
+        other = entityManager.persist(user("other@example.com"));
+        ownersStory = entityManager.persist(story(owner, todo, high));
+        othersStory = entityManager.persist(story(other, todo, high));
+
+        entityManager.persist(task(owner, ownersStory, todo, high));
+        entityManager.persist(task(other, ownersStory, todo, high));
+        ownersTaskInOthersStory = entityManager.persist(task(owner, othersStory, todo, high));
+        othersTask = entityManager.persist(task(other, othersStory, todo, high));
+        entityManager.flush();
+        storyProgressService.rebuild();
+    }
+
+    @Test
+    void deleteUsers_cascadesToTheirStoriesAndTasks() {
+        SoftDeleteResultDto result = softDeleteService.deleteUsers(List.of(owner.getId()));
+
+        // the owner's story and its two tasks, plus the owner's task in the other story
+        assertEquals(new SoftDeleteResultDto(1, 1, 3), result);
+        entityManager.clear();
+        assertTrue(entityManager.find(User.class, owner.getId()).isDeleted());
+        assertTrue(entityManager.find(Story.class, ownersStory.getId()).isDeleted());
+        assertTrue(entityManager.find(Task.class, ownersTaskInOthersStory.getId()).isDeleted());
+        assertFalse(entityManager.find(Task.class, othersTask.getId()).isDeleted());
+        assertNotNull(entityManager.find(Task.class, othersTask.getId()).getCreatedAt());
+
+        assertTrue(rollupRepository.findByStoryId(ownersStory.getId()).isEmpty());
+        assertEquals(1, rollupRepository.findByStoryId(othersStory.getId()).get(0).getTaskCount());
+        // one cache dimension per assignee, as the tasks share status, priority and end date
+        verify(cacheInvalidator).onTasksChanged(eq(Mutation.DELETE), argThat(dimensions -> dimensions.size() == 2));
+        verify(userCache).evict(Set.of(owner.getId()));
+        // the story totals are evicted only once the delete is committed
+        verify(pageTotals, never()).onStoriesDeleted();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(pageTotals).onStoriesDeleted();
+    }
+
+    @Test
+    void deleteStories_announcesTheDeletedTasksToSubscribers() {
+        when(taskEvents.hasSubscribers()).thenReturn(true);
+
+        softDeleteService.deleteStories(List.of(othersStory.getId()));
+
+        verify(taskEvents).publish(argThat((Collection<TaskEvent> events) -> events.size() == 2
+                && events.stream().allMatch(event -> event.type() == TaskEvent.Type.DELETE && "TODO".equals(event.status()))
+                && events.stream().anyMatch(event -> event.taskId().equals(othersTask.getId()))));
+    }
+
+    @Test
+    void deleteTasks_isIdempotent() {
+        assertEquals(1, softDeleteService.deleteTasks(List.of(othersTask.getId())).getTasks());
+        assertEquals(0, softDeleteService.deleteTasks(List.of(othersTask.getId())).getTasks());
+
+        entityManager.clear();
+        assertEquals(1, rollupRepository.findByStoryId(othersStory.getId()).get(0).getTaskCount());
+    }
+
+    @Test
+    void deleteOrphans_cascadesEarlierUserDeletes() {
+        entityManager.find(User.class, other.getId()).setDeleted(true);
+        entityManager.flush();
+
+        assertEquals(new SoftDeleteResultDto(0, 1, 3), softDeleteService.deleteOrphans());
+        verify(cacheInvalidator).invalidateAll(Mutation.DELETE);
+    }
+
+    @Test
+    void deleteOrphans_leavesCachesAloneWithoutOrphans() {
+        assertEquals(new SoftDeleteResultDto(0, 0, 0), softDeleteService.deleteOrphans());
+        verify(cacheInvalidator, never()).invalidateAll(Mutation.DELETE);
+    }
+
+    @Test
+    void deleteUsers_rejectsEmptyAndOversizedBatches() {
+        assertThrows(BadRequestException.class, () -> softDeleteService.deleteUsers(List.of()));
+        assertThrows(BadRequestException.class, () -> softDeleteService.deleteTasks(
+                Collections.nCopies(1001, 1L)));
+    }
+
+    private static User user(String email) {
+        return User.builder().firstName("Rohit").lastName("Sharma").email(email).timeZone("UTC").build();
+    }
+
+    private static Story story(User user, Status status, Priority priority) {
+        return Story.builder().title("Story").description("desc").storyPoints(3)
+                .status(status).priority(priority).assignedTo(user).createdAt(Instant.now()).build();
+    }
+
+    private static Task task(User user, Story story, Status status, Priority priority) {
+        return Task.builder().title("Task").estimatedHours(BigDecimal.ONE).assignedTo(user).story(story)
+                .status(status).priority(priority).createdAt(Instant.now()).build();
+    }
+}
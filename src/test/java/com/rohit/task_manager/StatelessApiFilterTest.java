@@ -0,0 +1,83 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.config.StatelessApiFilter;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.any;
+
+class StatelessApiFilterTest {
+
+    private MapSessionRepository sessionRepository;
+    private MockHttpServletRequest request;
+    private final AtomicReference<Object> sessionSeen = new AtomicReference<>();
+
+    private final HttpServlet servlet = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            sessionSeen.set(req.getSession(false));
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = spy(new MapSessionRepository(new HashMap<>()));
+        MapSession session = sessionRepository.createSession();
+        sessionRepository.save(session);
+        request = new MockHttpServletRequest("GET", "/api/v1/tasks/filter");
+        request.setCookies(new Cookie("SESSION",
+                Base64.getEncoder().encodeToString(session.getId().getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void sessionCookieIsResolvedWithoutStatelessFilter() throws Exception {
+        run(new SessionRepositoryFilter<>(sessionRepository));
+
+        assertNotNull(sessionSeen.get());
+    }
+
+    @Test
+    void statelessFilterSkipsTheSessionRepository() throws Exception {
+        run(new StatelessApiFilter(), new SessionRepositoryFilter<>(sessionRepository));
+
+        assertNull(sessionSeen.get());
+        verify(sessionRepository, never()).findById(any());
+    }
+
+    @Test
+    void statelessRequestCannotCreateASession() throws Exception {
+        HttpServlet creating = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.getSession();
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> new MockFilterChain(creating, new StatelessApiFilter())
+                .doFilter(request, new MockHttpServletResponse()));
+    }
+
+    private void run(Filter... filters) throws Exception {
+        new MockFilterChain(servlet, filters).doFilter(request, new MockHttpServletResponse());
+    }
+}
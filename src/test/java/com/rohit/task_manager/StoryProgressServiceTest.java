@@ -0,0 +1,112 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.dto.output.StoryProgressDto;
+import com.rohit.task_manager.respository.StoryRepository;
+import com.rohit.task_manager.respository.StoryStatusRollupRepository;
+import com.rohit.task_manager.service.ReferenceDataRegistry;
+import com.rohit.task_manager.service.StoryProgressService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoryProgressServiceTest {
+
+    @Mock private StoryStatusRollupRepository rollupRepository;
+    @Mock private StoryRepository storyRepository;
+    @Mock private ReferenceDataRegistry referenceData;
+
+    @InjectMocks
+    private StoryProgressService progressService;
+
+    private final Story story = Story.builder().id(7L).build();
+    private final Status todo = new Status(1L, "TODO");
+    private final Status done = new Status(3L, "DONE");
+
+    @Test
+    void onTaskCreated_insertsRollupRowOnlyWhenMissing() {
+        when(rollupRepository.increment(7L, 1L, 1, new BigDecimal("2.50"))).thenReturn(0, 1);
+
+        progressService.onTaskCreated(task(todo, "2.50"));
+
+        verify(rollupRepository).insertIfAbsent(7L, 1L);
+        verify(rollupRepository, times(2)).increment(7L, 1L, 1, new BigDecimal("2.50"));
+    }
+
+    @Test
+    void onTaskStatusChanged_movesCountAndHoursBetweenStatuses() {
+        when(rollupRepository.increment(anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        progressService.onTaskStatusChanged(task(done, "4"), todo);
+
+        verify(rollupRepository).increment(7L, 1L, -1, new BigDecimal("-4"));
+        verify(rollupRepository).increment(7L, 3L, 1, new BigDecimal("4"));
+        verify(rollupRepository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
+
+    @Test
+    void onTasksCreated_appliesOneIncrementPerStoryAndStatus() {
+        when(rollupRepository.increment(anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        progressService.onTasksCreated(List.of(task(todo, "1"), task(todo, "2"), task(done, "3"),
+                Task.builder().status(todo).estimatedHours(BigDecimal.ONE).build()));
+
+        verify(rollupRepository).increment(7L, 1L, 2, new BigDecimal("3"));
+        verify(rollupRepository).increment(7L, 3L, 1, new BigDecimal("3"));
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void getProgress_aggregatesRollupRows() {
+        when(storyRepository.existsById(7L)).thenReturn(true);
+        when(referenceData.getStatus(1L)).thenReturn(todo);
+        when(referenceData.getStatus(3L)).thenReturn(done);
+        when(rollupRepository.findByStoryId(7L)).thenReturn(List.of(
+                new StoryStatusRollup(7L, 1L, 3, new BigDecimal("6.00")),
+                new StoryStatusRollup(7L, 3L, 2, new BigDecimal("5.00")),
+                new StoryStatusRollup(7L, 2L, 0, new BigDecimal("0.00"))));
+
+        StoryProgressDto progress = progressService.getProgress(7L);
+
+        assertEquals(5, progress.getTotalTasks());
+        assertEquals(2, progress.getCompletedTasks());
+        assertEquals(new BigDecimal("11.00"), progress.getTotalEstimatedHours());
+        assertEquals(new BigDecimal("6.00"), progress.getRemainingEstimatedHours());
+        assertEquals(Map.of("TODO", 3L, "DONE", 2L), progress.getTasksByStatus());
+    }
+
+    @Test
+    void getProgress_unknownStory() {
+        when(storyRepository.existsById(8L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> progressService.getProgress(8L));
+    }
+
+    @Test
+    void rebuildIfEmpty_onlyBackfillsAnEmptyTable() {
+        when(rollupRepository.hasRows()).thenReturn(false, true);
+        when(rollupRepository.insertFromTasks()).thenReturn(4);
+
+        assertEquals(4, progressService.rebuildIfEmpty());
+        assertEquals(0, progressService.rebuildIfEmpty());
+
+        verify(rollupRepository).deleteAllRows();
+        verify(rollupRepository).insertFromTasks();
+    }
+
+    private Task task(Status status, String hours) {
+        return Task.builder().story(story).status(status).estimatedHours(new BigDecimal(hours)).build();
+    }
+}
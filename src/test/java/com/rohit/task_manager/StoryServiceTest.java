@@ -2,19 +2,23 @@ package com.rohit.task_manager;
 
 import com.rohit.task_manager.domain.*;
 import com.rohit.task_manager.dto.input.StoryRequestDto;
+import com.rohit.task_manager.dto.output.ActiveStoryDto;
+import com.rohit.task_manager.dto.output.ZonedActiveStoryDto;
+import com.rohit.task_manager.exception.BadRequestException;
 import com.rohit.task_manager.respository.StoryRepository;
+import com.rohit.task_manager.service.PageTotals;
 import com.rohit.task_manager.service.StoryService;
 import com.rohit.task_manager.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,45 +33,74 @@ class StoryServiceTest {
     @Mock
     private StoryRepository storyRepository;
 
-    @InjectMocks
+    @Mock
+    private PageTotals pageTotals;
+
     private StoryService storyService;
+    private ConcurrentMapCacheManager cacheManager;
 
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        cacheManager = new ConcurrentMapCacheManager("activeStoriesCache");
+        storyService = new StoryService(taskService, storyRepository, cacheManager, pageTotals);
     }
 
     @Test
     void testGetActiveStories_withTimeZoneConversion() {
         // Given
         Instant utcStartTime = Instant.parse("2025-07-30T08:00:00Z");
-        Story story = Story.builder()
-                .expectedStartDateTime(utcStartTime)
-                .status(new Status("IN_PROGRESS"))
-                .priority(new Priority("LOW"))
-                .isDeleted(false)
-                .build();
-
-        when(storyRepository.findActiveStories()).thenReturn(List.of(story));
+        when(storyRepository.findActiveStories()).thenReturn(List.of(activeStory(utcStartTime)));
 
         // When
-        List<Story> stories = storyService.getActiveStories("Asia/Kolkata");
+        List<ZonedActiveStoryDto> stories = storyService.getActiveStories("Asia/Kolkata").body();
 
         // Then
         assertEquals(1, stories.size());
 
-        Instant convertedInstant = stories.get(0).getExpectedStartDateTime();
-        assertNotNull(convertedInstant);
-
-        // The converted instant will still be the same UTC value
-        assertEquals(utcStartTime, convertedInstant);
-
-        // Verify the local time in Asia/Kolkata is correct
-        ZonedDateTime localTime = convertedInstant.atZone(ZoneId.of("Asia/Kolkata"));
+        OffsetDateTime localTime = stories.get(0).getExpectedStartDateTime();
+        assertNotNull(localTime);
+        assertEquals(utcStartTime, localTime.toInstant());
         assertEquals(13, localTime.getHour());
         assertEquals(30, localTime.getMinute());
+        assertEquals("Asia/Kolkata", stories.get(0).getTimeZone());
+    }
+
+    @Test
+    void testGetActiveStories_sharesOneSnapshotAcrossZones() {
+        Instant utcStartTime = Instant.parse("2025-07-30T08:00:00Z");
+        when(storyRepository.findActiveStories()).thenReturn(List.of(activeStory(utcStartTime)));
+
+        OffsetDateTime kolkata = storyService.getActiveStories("Asia/Kolkata").body().get(0).getExpectedStartDateTime();
+        OffsetDateTime newYork = storyService.getActiveStories("America/New_York").body().get(0).getExpectedStartDateTime();
+
+        assertEquals(4, newYork.getHour());
+        assertEquals(kolkata.toInstant(), newYork.toInstant());
+        verify(storyRepository, times(1)).findActiveStories();
+    }
+
+    @Test
+    void testGetActiveStories_tagDependsOnZoneAndContentOnly() {
+        Instant utcStartTime = Instant.parse("2025-07-30T08:00:00Z");
+        when(storyRepository.findActiveStories()).thenReturn(List.of(activeStory(utcStartTime)));
+
+        String kolkata = storyService.getActiveStories("Asia/Kolkata").eTag();
+        assertEquals(kolkata, storyService.getActiveStories("Asia/Kolkata").eTag());
+        assertNotEquals(kolkata, storyService.getActiveStories("UTC").eTag());
+
+        // a reloaded but identical snapshot keeps the tag, a changed one does not
+        cacheManager.getCache("activeStoriesCache").clear();
+        assertEquals(kolkata, storyService.getActiveStories("Asia/Kolkata").eTag());
+        cacheManager.getCache("activeStoriesCache").clear();
+        when(storyRepository.findActiveStories()).thenReturn(List.of(activeStory(utcStartTime.plusSeconds(60))));
+        assertNotEquals(kolkata, storyService.getActiveStories("Asia/Kolkata").eTag());
     }
 
+    @Test
+    void testGetActiveStories_invalidTimeZone() {
+        assertThrows(BadRequestException.class, () -> storyService.getActiveStories("Mars/Olympus"));
+        verifyNoInteractions(storyRepository);
+    }
 
     @Test
     void testCreateStory_savesCorrectly() {
@@ -113,6 +146,29 @@ class StoryServiceTest {
         verify(storyRepository, times(1)).save(any(Story.class));
     }
 
+    @Test
+    void testCreateStory_refreshesActiveStoriesSnapshot() {
+        UUID userId = UUID.randomUUID();
+        StoryRequestDto dto = StoryRequestDto.builder()
+                .title("Test Story")
+                .assignedToId(userId)
+                .statusId(1L)
+                .priorityId(2L)
+                .build();
+        when(taskService.getUser(userId)).thenReturn(new User(userId));
+        when(taskService.getStatus(1L)).thenReturn(new Status("TODO"));
+        when(taskService.getPriority(2L)).thenReturn(new Priority("LOW"));
+        when(storyRepository.save(any(Story.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(storyRepository.findActiveStories()).thenReturn(List.of());
+
+        storyService.getActiveStories("UTC");
+        storyService.createStory(dto);
+        storyService.getActiveStories("UTC");
+
+        verify(storyRepository, times(2)).findActiveStories();
+        verify(pageTotals).onStoryCreated(userId);
+    }
+
     @Test
     void testGetStoriesByUser_returnsPagedResults() {
         UUID userId = UUID.randomUUID();
@@ -129,4 +185,8 @@ class StoryServiceTest {
         assertEquals("Story 1", result.getContent().get(0).getTitle());
     }
 
+    private static ActiveStoryDto activeStory(Instant expectedStart) {
+        return new ActiveStoryDto(1L, "Story", "desc", 3, "IN_PROGRESS", "LOW", null, null, null,
+                expectedStart, null, Instant.parse("2025-07-29T08:00:00Z"), null);
+    }
 }
@@ -0,0 +1,69 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.respository.StoryStatusRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rollups;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StoryStatusRollupRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StoryStatusRollupRepository rollupRepository;
+
+    @Test
+    void insertIfAbsentAndIncrement_upsertTheRollupRow() {
+        rollupRepository.insertIfAbsent(1L, 2L);
+        rollupRepository.increment(1L, 2L, 1, new BigDecimal("2.5"));
+        rollupRepository.insertIfAbsent(1L, 2L);
+        rollupRepository.increment(1L, 2L, 2, new BigDecimal("1.5"));
+        entityManager.clear();
+
+        List<StoryStatusRollup> rows = rollupRepository.findByStoryId(1L);
+        assertEquals(1, rows.size());
+        assertEquals(3, rows.get(0).getTaskCount());
+        assertEquals(0, new BigDecimal("4").compareTo(rows.get(0).getEstimatedHours()));
+    }
+
+    @Test
+    void insertFromTasks_rebuildsRollupsOfLiveTasks() {
+        Status todo = entityManager.persist(new Status("TODO"));
+        Priority high = entityManager.persist(new Priority("HIGH"));
+        User user = entityManager.persist(User.builder().firstName("Rohit").lastName("Sharma")
+                .email("rohit@example.com").timeZone("UTC").build());
+        Story story = entityManager.persist(Story.builder().title("Story").description("desc").storyPoints(3)
+                .status(todo).priority(high).assignedTo(user).createdAt(Instant.now()).build());
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(Task.builder().title("Task " + i).estimatedHours(BigDecimal.valueOf(2))
+                    .assignedTo(user).status(todo).priority(high).story(story).isDeleted(i == 2)
+                    .createdAt(Instant.now()).build());
+        }
+        entityManager.flush();
+
+        rollupRepository.deleteAllRows();
+        assertEquals(1, rollupRepository.insertFromTasks());
+
+        StoryStatusRollup rollup = rollupRepository.findByStoryId(story.getId()).get(0);
+        assertEquals(2, rollup.getTaskCount());
+        assertEquals(0, new BigDecimal("4").compareTo(rollup.getEstimatedHours()));
+    }
+}
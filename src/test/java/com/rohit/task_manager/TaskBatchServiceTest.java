@@ -0,0 +1,123 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.cache.TaskCacheInvalidator;
+import com.rohit.task_manager.cache.TaskCacheInvalidator.Mutation;
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.dto.input.TaskRequestDto;
+import com.rohit.task_manager.dto.output.BatchTaskResultDto;
+import com.rohit.task_manager.dto.output.BatchTaskResultDto.Outcome;
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.respository.StoryRepository;
+import com.rohit.task_manager.respository.TaskRepository;
+import com.rohit.task_manager.respository.UserRepository;
+import com.rohit.task_manager.service.ReferenceDataRegistry;
+import com.rohit.task_manager.service.StoryProgressService;
+import com.rohit.task_manager.service.TaskBatchService;
+import com.rohit.task_manager.service.TaskEventBroadcaster;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private StoryRepository storyRepository;
+    @Mock private ReferenceDataRegistry referenceData;
+    @Mock private TaskCacheInvalidator cacheInvalidator;
+    @Mock private TaskEventBroadcaster taskEvents;
+    @Mock private StoryProgressService storyProgress;
+    @Mock private EntityManager entityManager;
+
+    private TaskBatchService batchService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        batchService = new TaskBatchService(taskRepository, userRepository, storyRepository, referenceData,
+                cacheInvalidator, taskEvents, storyProgress, Validation.buildDefaultValidatorFactory().getValidator(), entityManager, 2);
+    }
+
+    @Test
+    void createTasks_insertsValidItemsInChunksAndReportsRejections() {
+        when(userRepository.findAllById(any())).thenReturn(List.of(User.builder().id(userId).build()));
+        when(storyRepository.findAllById(any())).thenReturn(List.of(Story.builder().id(7L).build()));
+        when(referenceData.getStatus(1L)).thenReturn(new Status(1L, "TODO"));
+        when(referenceData.getStatus(2L)).thenReturn(new Status(2L, "IN_PROGRESS"));
+        when(referenceData.getPriority(1L)).thenReturn(new Priority(1L, "LOW"));
+        AtomicLong ids = new AtomicLong(100);
+        when(taskRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Task> chunk = inv.getArgument(0);
+            chunk.forEach(t -> t.setId(ids.incrementAndGet()));
+            return chunk;
+        });
+
+        BatchTaskResultDto result = batchService.createTasks(List.of(
+                task("a", 1L, userId),
+                task("b", 2L, userId),
+                task("c", 1L, UUID.randomUUID()),
+                task("d", 1L, userId),
+                task("e", 1L, userId)));
+
+        assertEquals(3, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(Outcome.CREATED, result.getItems().get(0).getOutcome());
+        assertEquals(101L, result.getItems().get(0).getTaskId());
+        assertEquals(Outcome.REJECTED, result.getItems().get(1).getOutcome());
+        assertTrue(result.getItems().get(2).getError().startsWith("User not found"));
+        assertEquals(103L, result.getItems().get(4).getTaskId());
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).clear();
+        verify(cacheInvalidator).onTasksChanged(eq(Mutation.CREATE), argThat(c -> c.size() == 3));
+        verify(taskEvents).publish(argThat((Collection<TaskEvent> events) -> events.size() == 3));
+        verify(storyProgress, times(2)).onTasksCreated(anyList());
+    }
+
+    @Test
+    void createTasks_rejectsInvalidPayloadPerItem() {
+        when(userRepository.findAllById(any())).thenReturn(List.of());
+        when(storyRepository.findAllById(any())).thenReturn(List.of());
+
+        BatchTaskResultDto result = batchService.createTasks(List.of(TaskRequestDto.builder().build()));
+
+        assertEquals(0, result.getCreated());
+        assertTrue(result.getItems().get(0).getError().contains("title"));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createTasks_rejectsEmptyAndOversizedBatches() {
+        assertThrows(BadRequestException.class, () -> batchService.createTasks(List.of()));
+        assertThrows(BadRequestException.class,
+                () -> batchService.createTasks(Collections.nCopies(1001, task("x", 1L, userId))));
+    }
+
+    private TaskRequestDto task(String title, Long statusId, UUID assignee) {
+        return TaskRequestDto.builder()
+                .title(title)
+                .estimatedHours(BigDecimal.ONE)
+                .statusId(statusId)
+                .priorityId(1L)
+                .assignedToId(assignee)
+                .storyId(7L)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.rohit.task_manager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rohit.task_manager.cache.TaskCacheInvalidator;
+import com.rohit.task_manager.cache.TaskCacheInvalidator.Mutation;
+import com.rohit.task_manager.cache.TaskDimensions;
+import com.rohit.task_manager.cache.TaskQueryKey;
+import com.rohit.task_manager.cache.TieredCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCacheInvalidatorTest {
+
+    private final UUID userA = UUID.randomUUID();
+    private final UUID userB = UUID.randomUUID();
+    private final PageRequest page = PageRequest.of(0, 20);
+
+    private TieredCache filterCache;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        TieredCache searchCache = new TieredCache("searchTasksCache", Caffeine.newBuilder().build(), null);
+        filterCache = new TieredCache("filterTasksCache", Caffeine.newBuilder().build(), null);
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(searchCache, filterCache));
+        cacheManager.afterPropertiesSet();
+        meterRegistry = new SimpleMeterRegistry();
+        invalidator = new TaskCacheInvalidator(cacheManager, meterRegistry);
+
+        filterCache.put(TaskQueryKey.filter(userA, null, null, page), Page.empty());
+        filterCache.put(TaskQueryKey.filter(userB, null, null, page), Page.empty());
+        filterCache.put(TaskQueryKey.filter(null, "TODO", null, page), Page.empty());
+        filterCache.put(TaskQueryKey.filter(null, "DONE", "HIGH", page), Page.empty());
+    }
+
+    @Test
+    void create_evictsOnlyPagesTheTaskMatches() {
+        int evicted = invalidator.onTaskChanged(Mutation.CREATE,
+                new TaskDimensions(userA, "Rohit", null, "TODO", "LOW"));
+
+        assertEquals(2, evicted);
+        assertNull(filterCache.get(TaskQueryKey.filter(userA, null, null, page)));
+        assertNull(filterCache.get(TaskQueryKey.filter(null, "TODO", null, page)));
+        assertNotNull(filterCache.get(TaskQueryKey.filter(userB, null, null, page)));
+        assertNotNull(filterCache.get(TaskQueryKey.filter(null, "DONE", "HIGH", page)));
+    }
+
+    @Test
+    void statusChange_evictsPagesOfOldAndNewStatus() {
+        TaskDimensions before = new TaskDimensions(userB, "Rohit", null, "TODO", "HIGH");
+
+        int evicted = invalidator.onTaskChanged(Mutation.STATUS_CHANGE, before, before.withStatus("DONE"));
+
+        assertEquals(3, evicted);
+        assertNotNull(filterCache.get(TaskQueryKey.filter(userA, null, null, page)));
+        assertEquals(3.0, meterRegistry.counter("task.cache.invalidations",
+                "cache", "filterTasksCache", "mutation", "status_change").count());
+    }
+
+    @Test
+    void insideTransaction_evictsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            invalidator.onTaskChanged(Mutation.DELETE, new TaskDimensions(userA, "Rohit", null, "TODO", "LOW"));
+            assertNotNull(filterCache.get(TaskQueryKey.filter(userA, null, null, page)));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertNull(filterCache.get(TaskQueryKey.filter(userA, null, null, page)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void remoteTier_isClearedAsAWhole() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("remote", false);
+        TieredCache tiered = new TieredCache("searchTasksCache", Caffeine.newBuilder().build(), remote);
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(tiered));
+        cacheManager.afterPropertiesSet();
+        TaskCacheInvalidator tieredInvalidator = new TaskCacheInvalidator(cacheManager, meterRegistry);
+        tiered.put(TaskQueryKey.filter(userA, null, null, page), Page.empty());
+        // written by another instance, or expired from the local tier
+        remote.put(TaskQueryKey.filter(null, "TODO", null, page), Page.empty());
+
+        int evicted = tieredInvalidator.onTaskChanged(Mutation.CREATE,
+                new TaskDimensions(userA, "Rohit", null, "TODO", "LOW"));
+
+        assertEquals(1, evicted);
+        assertNull(tiered.get(TaskQueryKey.filter(null, "TODO", null, page)));
+        assertEquals(1.0, meterRegistry.counter("task.cache.remote.clears",
+                "cache", "searchTasksCache", "mutation", "create").count());
+    }
+
+    @Test
+    void plainCache_isClearedAndCounted() {
+        ConcurrentMapCache plain = new ConcurrentMapCache("filterTasksCache", false);
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(plain));
+        cacheManager.afterPropertiesSet();
+        plain.put(TaskQueryKey.filter(userA, null, null, page), Page.empty());
+        plain.put(TaskQueryKey.filter(userB, null, null, page), Page.empty());
+
+        int evicted = new TaskCacheInvalidator(cacheManager, meterRegistry).onTaskChanged(Mutation.DELETE,
+                new TaskDimensions(userA, "Rohit", null, "TODO", "LOW"));
+
+        assertEquals(2, evicted);
+        assertNull(plain.get(TaskQueryKey.filter(userB, null, null, page)));
+    }
+}
@@ -0,0 +1,158 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.exception.ServiceUnavailableException;
+import com.rohit.task_manager.service.TaskEventBroadcaster;
+import com.rohit.task_manager.service.TaskEventBroadcaster.Filter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBroadcasterTest {
+
+    private static final Pattern EVENT_NAME = Pattern.compile("event:(\\S+)");
+
+    private final UUID userId = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new TaskEventBroadcaster(meterRegistry, 2, 8, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void publish_sendsMatchingEventsToEachSubscriber() throws Exception {
+        RecordingEmitter todo = new RecordingEmitter();
+        RecordingEmitter everything = new RecordingEmitter();
+        broadcaster.subscribe(new Filter(userId, "TODO", null), todo);
+        broadcaster.subscribe(new Filter(null, null, null), everything);
+
+        broadcaster.publish(List.of(
+                event(TaskEvent.Type.CREATE, 1L, userId, "TODO", null),
+                event(TaskEvent.Type.CREATE, 2L, UUID.randomUUID(), "TODO", null),
+                event(TaskEvent.Type.STATUS_CHANGE, 1L, userId, "DONE", "TODO"),
+                event(TaskEvent.Type.DELETE, 3L, userId, "DONE", null)));
+
+        assertEquals(List.of("create", "status-change"), todo.names(2));
+        assertEquals(List.of("create", "create", "status-change", "delete"), everything.names(4));
+        assertEquals(2, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void publish_dropsASubscriberThatFallsBehindWithoutWaitingForIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stuck = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        broadcaster.subscribe(new Filter(null, null, null), stuck);
+        broadcaster.subscribe(new Filter(null, null, null), fast);
+        stuck.awaitBlocked();
+
+        long started = System.nanoTime();
+        for (long id = 1; id <= 10; id++) {
+            broadcaster.publish(event(TaskEvent.Type.CREATE, id, userId, "TODO", null));
+            fast.names(1);
+        }
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("tasks.stream.dropped").counter().count());
+        release.countDown();
+        assertEquals("dropped", stuck.names(1).get(0));
+        assertTrue(stuck.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void subscribe_rejectsSubscribersBeyondTheLimit() {
+        broadcaster.subscribe(new Filter(null, null, null), new RecordingEmitter());
+        broadcaster.subscribe(new Filter(null, null, null), new RecordingEmitter());
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> broadcaster.subscribe(new Filter(null, null, null), new RecordingEmitter()));
+    }
+
+    private static TaskEvent event(TaskEvent.Type type, Long id, UUID assignee, String status, String previousStatus) {
+        return new TaskEvent(type, id, assignee, status, previousStatus, "HIGH", Instant.now());
+    }
+
+    /**
+     * Records the names of the events sent to it; with a latch, the first send blocks until it is
+     * released, like a write to a client that stopped reading.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> names = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter() {
+            this(null);
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null && blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (DataWithMediaType data : builder.build()) {
+                Matcher name = EVENT_NAME.matcher(String.valueOf(data.getData()));
+                if (name.find()) {
+                    names.add(name.group(1));
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        }
+
+        List<String> names(int count) throws InterruptedException {
+            List<String> received = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String name = names.poll(5, TimeUnit.SECONDS);
+                assertNotNull(name, "missing event " + (i + 1) + " of " + count);
+                received.add(name);
+            }
+            return received;
+        }
+    }
+}
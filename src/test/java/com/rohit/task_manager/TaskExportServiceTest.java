@@ -0,0 +1,95 @@
+package com.rohit.task_manager;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.respository.TaskRepository;
+import com.rohit.task_manager.service.TaskExportService;
+import com.rohit.task_manager.service.TaskExportService.Format;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private EntityManager entityManager;
+
+    private TaskExportService exportService;
+
+    private final User user = User.builder().id(UUID.randomUUID()).firstName("Rohit").lastName("Sharma").build();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TaskExportService(taskRepository, entityManager,
+                Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+    }
+
+    @Test
+    void exportTasks_writesOneJsonObjectPerLine() throws Exception {
+        when(taskRepository.streamAll(any(), anyInt())).thenReturn(Stream.of(task(1L, "First"), task(2L, "Second")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.exportTasks(null, "TODO", null, Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"title\":\"First\""));
+        assertTrue(lines[1].contains("\"createdAt\":\"2025-07-30T08:00:00Z\""));
+    }
+
+    @Test
+    void exportTasks_writesCsvWithHeaderAndQuotedValues() throws Exception {
+        when(taskRepository.streamAll(any(), anyInt())).thenReturn(Stream.of(task(1L, "Fix \"login\", then deploy")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportTasks(null, null, null, Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,title,estimatedHours,status,priority"));
+        assertEquals("1,\"Fix \"\"login\"\", then deploy\",2,TODO,HIGH," + user.getId() + ",Rohit,Sharma,,,,"
+                + "2025-07-30T08:00:00Z,", lines[1]);
+    }
+
+    @Test
+    void exportTasks_clearsPersistenceContextAfterEachFetch() throws Exception {
+        when(taskRepository.streamAll(any(), anyInt())).thenReturn(IntStream.rangeClosed(1, 1200)
+                .mapToObj(i -> task((long) i, "Task " + i)));
+
+        long rows = exportService.exportTasks(null, null, null, Format.NDJSON, new ByteArrayOutputStream());
+
+        assertEquals(1200, rows);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void format_rejectsUnknownValues() {
+        assertEquals(Format.CSV, Format.of("csv"));
+        assertThrows(BadRequestException.class, () -> Format.of("xml"));
+    }
+
+    private Task task(Long id, String title) {
+        return Task.builder().id(id).title(title).estimatedHours(BigDecimal.valueOf(2))
+                .assignedTo(user).status(new Status("TODO")).priority(new Priority("HIGH"))
+                .createdAt(Instant.parse("2025-07-30T08:00:00Z")).build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.respository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIf("postgresAvailable")
+class TaskFullTextSearchTest extends AbstractPostgresTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task titleMatch;
+    private Task storyMatch;
+    private Task noMatch;
+
+    @BeforeEach
+    void setUp() {
+        Status todo = entityManager.persist(new Status("TODO"));
+        Priority high = entityManager.persist(new Priority("HIGH"));
+        User user = entityManager.persist(User.builder().firstName("Rohit").lastName("Sharma")
+                .email("rohit@example.com").timeZone("Asia/Kolkata").build());
+        Story billing = entityManager.persist(story("Invoices", "Prepare the quarterly billing report", user, todo, high));
+        Story other = entityManager.persist(story("Auth", "Harden the sign-in flow", user, todo, high));
+
+        titleMatch = entityManager.persist(task("Fix billing export", other, user, todo, high, false));
+        storyMatch = entityManager.persist(task("Write tests", billing, user, todo, high, false));
+        noMatch = entityManager.persist(task("Refactor login", other, user, todo, high, false));
+        entityManager.persist(task("Billing cleanup", other, user, todo, high, true));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findByText_ranksTitleMatchesAboveStoryMatchesAndSkipsDeletedTasks() {
+        Page<Task> page = taskRepository.findByText("billing", PageRequest.of(0, 20));
+
+        assertEquals(List.of(titleMatch.getId(), storyMatch.getId()), ids(page));
+        assertEquals(2, page.getTotalElements());
+        assertEquals("HIGH", page.getContent().get(0).getPriority().getName());
+    }
+
+    @Test
+    void findByText_supportsStemmingAndExcludedWords() {
+        assertEquals(List.of(titleMatch.getId()), ids(taskRepository.findByText("exporting", PageRequest.of(0, 20))));
+        assertEquals(List.of(storyMatch.getId()), ids(taskRepository.findByText("billing -export", PageRequest.of(0, 20))));
+    }
+
+    @Test
+    void findByText_paginatesWithTotal() {
+        Page<Task> page = taskRepository.findByText("billing", PageRequest.of(1, 1));
+
+        assertEquals(List.of(storyMatch.getId()), ids(page));
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    void findByText_followsTitleUpdates() {
+        Task task = entityManager.find(Task.class, noMatch.getId());
+        task.setTitle("Refactor billing login");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(3, taskRepository.findByText("billing", PageRequest.of(0, 20)).getTotalElements());
+    }
+
+    private static List<Long> ids(Page<Task> page) {
+        return page.getContent().stream().map(Task::getId).toList();
+    }
+
+    private static Story story(String title, String description, User user, Status status, Priority priority) {
+        return Story.builder().title(title).description(description).storyPoints(3).assignedTo(user)
+                .status(status).priority(priority).createdAt(Instant.now()).build();
+    }
+
+    private static Task task(String title, Story story, User user, Status status, Priority priority, boolean deleted) {
+        return Task.builder().title(title).estimatedHours(BigDecimal.ONE).story(story).assignedTo(user)
+                .status(status).priority(priority).createdAt(Instant.now()).isDeleted(deleted).build();
+    }
+}
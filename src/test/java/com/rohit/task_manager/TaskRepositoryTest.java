@@ -0,0 +1,158 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.dto.output.TaskSummaryDto;
+import com.rohit.task_manager.dto.input.TaskCursor;
+import com.rohit.task_manager.respository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.rohit.task_manager.respository.TaskSpecifications.filter;
+import static com.rohit.task_manager.respository.TaskSpecifications.search;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskRepositoryTest {
+
+    private static final int TASK_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Status todo = entityManager.persist(new Status("TODO"));
+        Priority high = entityManager.persist(new Priority("HIGH"));
+        user = entityManager.persist(User.builder().firstName("Rohit").lastName("Sharma")
+                .email("rohit@example.com").timeZone("Asia/Kolkata").build());
+        Story story = entityManager.persist(Story.builder().title("Story").description("desc").storyPoints(3)
+                .status(todo).priority(high).assignedTo(user).createdAt(Instant.now()).build());
+        for (int i = 0; i < TASK_COUNT; i++) {
+            entityManager.persist(Task.builder().title("Task " + i).estimatedHours(BigDecimal.ONE)
+                    .assignedTo(user).status(todo).priority(high).story(story)
+                    .createdAt(Instant.now().plusSeconds(i)).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void filterTasks_loadsPageWithOneSelectAndOneCount() {
+        Page<Task> page = taskRepository.findAll(filter(user.getId(), "TODO", null), PageRequest.of(0, 20));
+
+        assertEquals(20, page.getNumberOfElements());
+        assertEquals(TASK_COUNT, page.getTotalElements());
+        assertEquals("HIGH", page.getContent().get(0).getPriority().getName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searchTasks_loadsPageWithOneSelectAndOneCount() {
+        Page<Task> page = taskRepository.findAll(search(null, "Rohit", null, null), PageRequest.of(1, 20));
+
+        assertEquals(TASK_COUNT - 20, page.getNumberOfElements());
+        assertEquals("Rohit", page.getContent().get(0).getAssignedTo().getFirstName());
+        // a short last page lets Spring Data derive the total without a count query
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void filterTasks_sliceSkipsTheCount() {
+        Slice<Task> first = taskRepository.findBy(filter(user.getId(), "TODO", null), q -> q.slice(PageRequest.of(0, 20)));
+        Slice<Task> last = taskRepository.findBy(filter(user.getId(), "TODO", null), q -> q.slice(PageRequest.of(1, 20)));
+
+        assertEquals(20, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(TASK_COUNT - 20, last.getNumberOfElements());
+        assertFalse(last.hasNext());
+        assertEquals("HIGH", first.getContent().get(0).getPriority().getName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void filterTaskSummaries_projectsWithoutLoadingEntities() {
+        Page<TaskSummaryDto> page = taskRepository.findSummaries(filter(null, "TODO", "HIGH"), PageRequest.of(0, 20));
+
+        assertEquals(20, page.getNumberOfElements());
+        assertEquals(user.getId(), page.getContent().get(0).getAssignedToId());
+        assertNotNull(page.getContent().get(0).getStoryId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void search_withoutEndDateFilter_matchesTasksWithoutEndDate() {
+        Page<Task> page = taskRepository.findAll(search(user.getId(), null, null, null), PageRequest.of(0, 50));
+
+        assertEquals(TASK_COUNT, page.getNumberOfElements());
+    }
+
+    @Test
+    void findAfter_seeksPastCursorInOneSelect() {
+        List<Task> first = taskRepository.findAfter(filter(null, null, null), null, 10);
+        List<Task> second = taskRepository.findAfter(filter(null, null, null), TaskCursor.of(first.get(9)), 10);
+
+        assertEquals(10, second.size());
+        assertTrue(second.get(0).getCreatedAt().isBefore(first.get(9).getCreatedAt()));
+        assertEquals("TODO", second.get(0).getStatus().getName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAll_readsAllMatchingTasksNewestFirstInOneSelect() {
+        List<Task> tasks;
+        try (Stream<Task> stream = taskRepository.streamAll(filter(user.getId(), "TODO", null), 10)) {
+            tasks = stream.toList();
+        }
+
+        assertEquals(TASK_COUNT, tasks.size());
+        assertEquals("Task " + (TASK_COUNT - 1), tasks.get(0).getTitle());
+        assertEquals("HIGH", tasks.get(TASK_COUNT - 1).getPriority().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void compareAndSetStatus_appliesOnlyToTheExpectedStatusAndVersion() {
+        Status done = entityManager.persist(new Status("DONE"));
+        Task task = taskRepository.findAll().get(0);
+        Long todoId = task.getStatus().getId();
+
+        assertEquals(0, taskRepository.compareAndSetStatus(task.getId(), done.getId(), null, done, Instant.now()));
+        assertEquals(0, taskRepository.compareAndSetStatus(task.getId(), todoId, 7L, done, Instant.now()));
+        assertEquals(1, taskRepository.compareAndSetStatus(task.getId(), todoId, 0L, done, Instant.now()));
+
+        Task updated = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("DONE", updated.getStatus().getName());
+        assertEquals(1L, updated.getVersion());
+        assertNotNull(updated.getUpdatedAt());
+    }
+}
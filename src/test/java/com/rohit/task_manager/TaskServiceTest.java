@@ -1,27 +1,59 @@
 package com.rohit.task_manager;
 
+import com.rohit.task_manager.cache.TaskCacheInvalidator;
+import com.rohit.task_manager.cache.TaskCacheInvalidator.Mutation;
 import com.rohit.task_manager.domain.Priority;
 import com.rohit.task_manager.domain.Status;
 import com.rohit.task_manager.domain.Task;
 import com.rohit.task_manager.domain.User;
+import com.rohit.task_manager.dto.input.BulkTaskStatusRequest;
+import com.rohit.task_manager.dto.input.TaskCursor;
 import com.rohit.task_manager.dto.input.TaskRequestDto;
+import com.rohit.task_manager.dto.output.BulkTaskStatusResultDto;
+import com.rohit.task_manager.dto.output.BulkTaskStatusResultDto.Rejection;
+import com.rohit.task_manager.dto.output.CursorPage;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
+import com.rohit.task_manager.dto.output.TaskEvent;
+import com.rohit.task_manager.exception.BadRequestException;
+import com.rohit.task_manager.exception.ConflictException;
+import com.rohit.task_manager.exception.PreconditionFailedException;
 import com.rohit.task_manager.respository.*;
+import com.rohit.task_manager.service.ContentionMetrics;
+import com.rohit.task_manager.service.ContentionMetrics.Outcome;
+import com.rohit.task_manager.service.ReferenceDataRegistry;
+import com.rohit.task_manager.service.SoftDeleteService;
+import com.rohit.task_manager.service.StoryProgressService;
+import com.rohit.task_manager.service.TaskEventBroadcaster;
 import com.rohit.task_manager.service.TaskService;
+import com.rohit.task_manager.service.UserCache;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,9 +62,13 @@ class TaskServiceTest {
     @Mock
     private StoryRepository storyRepository;
     @Mock private TaskRepository taskRepository;
-    @Mock private UserRepository userRepository;
-    @Mock private StatusRepository statusRepository;
-    @Mock private PriorityRepository priorityRepository;
+    @Mock private UserCache userCache;
+    @Mock private ReferenceDataRegistry referenceData;
+    @Mock private TaskCacheInvalidator cacheInvalidator;
+    @Mock private StoryProgressService storyProgress;
+    @Mock private SoftDeleteService softDeleteService;
+    @Mock private ContentionMetrics contentionMetrics;
+    @Mock private TaskEventBroadcaster taskEvents;
 
     @InjectMocks
     private TaskService taskService;
@@ -55,9 +91,9 @@ class TaskServiceTest {
         Status status = new Status(statusId, "TODO");
         Priority priority = new Priority(priorityId, "HIGH");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(statusRepository.findById(statusId)).thenReturn(Optional.of(status));
-        when(priorityRepository.findById(priorityId)).thenReturn(Optional.of(priority));
+        when(userCache.findActive(userId)).thenReturn(Optional.of(user));
+        when(referenceData.getStatus(statusId)).thenReturn(status);
+        when(referenceData.getPriority(priorityId)).thenReturn(priority);
         when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
 
         // When
@@ -68,27 +104,144 @@ class TaskServiceTest {
         assertEquals(user, result.getAssignedTo());
         assertEquals(status, result.getStatus());
         assertEquals(priority, result.getPriority());
+        verify(storyProgress).onTaskCreated(result);
+        verify(taskEvents).publish(TaskEvent.created(result));
     }
 
     @Test
     void updateTaskStatus_shouldUpdateStatusAndSetUpdatedAt() {
-        Task task = Task.builder().id(1L).expectedStartDateTime(Instant.now()).expectedEndDateTime(Instant.now()).build();
+        Status oldStatus = new Status(5L, "TODO");
+        Task task = Task.builder().id(1L).status(oldStatus).version(3L)
+                .expectedStartDateTime(Instant.now()).expectedEndDateTime(Instant.now()).build();
         Status newStatus = new Status(statusId, "IN_PROGRESS");
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(statusRepository.findById(statusId)).thenReturn(Optional.of(newStatus));
-        when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+        when(referenceData.getStatus(statusId)).thenReturn(newStatus);
+        when(taskRepository.compareAndSetStatus(eq(1L), eq(5L), isNull(), eq(newStatus), any())).thenReturn(1);
 
-        Task result = taskService.updateTaskStatus(1L, statusId);
+        Task result = taskService.updateTaskStatus(1L, statusId, null);
 
         assertEquals("IN_PROGRESS", result.getStatus().getName());
         assertNotNull(result.getUpdatedAt());
+        assertEquals(4L, result.getVersion());
+        verify(storyProgress).onTaskStatusChanged(result, oldStatus);
+        verify(contentionMetrics).statusUpdate(Outcome.APPLIED);
+        verify(taskEvents).publish(ArgumentMatchers.<TaskEvent>argThat(event -> event.type() == TaskEvent.Type.STATUS_CHANGE
+                && "TODO".equals(event.previousStatus()) && "IN_PROGRESS".equals(event.status())));
+    }
+
+    @Test
+    void updateTaskStatus_doesNotAnnounceAnUnchangedStatus() {
+        Status todo = new Status(statusId, "TODO");
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(Task.builder().id(1L).status(todo).version(3L).build()));
+        when(referenceData.getStatus(statusId)).thenReturn(todo);
+        when(taskRepository.compareAndSetStatus(eq(1L), eq(statusId), isNull(), eq(todo), any())).thenReturn(1);
+
+        taskService.updateTaskStatus(1L, statusId, null);
+
+        verifyNoInteractions(taskEvents);
+    }
+
+    @Test
+    void updateTaskStatus_retriesFromTheFreshStatusWhenItChangedConcurrently() {
+        Status todo = new Status(5L, "TODO");
+        Status review = new Status(6L, "REVIEW");
+        Status done = new Status(statusId, "DONE");
+        when(referenceData.getStatus(statusId)).thenReturn(done);
+        when(taskRepository.findById(1L))
+                .thenReturn(Optional.of(Task.builder().id(1L).status(todo).version(1L).build()))
+                .thenReturn(Optional.of(Task.builder().id(1L).status(review).version(2L).build()));
+        when(taskRepository.compareAndSetStatus(eq(1L), eq(5L), isNull(), eq(done), any())).thenReturn(0);
+        when(taskRepository.compareAndSetStatus(eq(1L), eq(6L), isNull(), eq(done), any())).thenReturn(1);
+
+        Task result = taskService.updateTaskStatus(1L, statusId, null);
+
+        verify(storyProgress).onTaskStatusChanged(result, review);
+        verify(contentionMetrics).statusUpdate(Outcome.RETRIED);
+    }
+
+    @Test
+    void updateTaskStatus_givesUpAfterBoundedRetries() {
+        Status todo = new Status(5L, "TODO");
+        when(referenceData.getStatus(statusId)).thenReturn(new Status(statusId, "DONE"));
+        when(taskRepository.findById(1L)).thenAnswer(i -> Optional.of(Task.builder().id(1L).status(todo).version(1L).build()));
+        when(taskRepository.compareAndSetStatus(eq(1L), eq(5L), isNull(), any(), any())).thenReturn(0);
+
+        assertThrows(ConflictException.class, () -> taskService.updateTaskStatus(1L, statusId, null));
+        verify(taskRepository, times(3)).findById(1L);
+        verify(contentionMetrics).statusUpdate(Outcome.CONFLICT);
+        verifyNoInteractions(storyProgress);
+    }
+
+    @Test
+    void updateTaskStatus_staleIfMatchFailsWithoutUpdating() {
+        when(referenceData.getStatus(statusId)).thenReturn(new Status(statusId, "DONE"));
+        when(taskRepository.findById(1L)).thenReturn(
+                Optional.of(Task.builder().id(1L).status(new Status(5L, "TODO")).version(4L).build()));
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTaskStatus(1L, statusId, 3L));
+        verify(taskRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any());
+        verify(contentionMetrics).statusUpdate(Outcome.PRECONDITION_FAILED);
+    }
+
+    @Test
+    void updateTaskStatuses_reportsChangedUnchangedAndRejectedIds() {
+        Status todo = new Status(5L, "TODO");
+        Status inProgress = new Status(statusId, "IN_PROGRESS");
+        when(referenceData.getStatus(statusId)).thenReturn(inProgress);
+        when(referenceData.getStatus(5L)).thenReturn(todo);
+        when(referenceData.getPriority(priorityId)).thenReturn(new Priority(priorityId, "HIGH"));
+        when(taskRepository.transitionStatus(eq(List.of(1L, 2L, 3L, 4L)), isNull(), isNull(), isNull(), eq(statusId),
+                eq(true), any(), eq(10_001))).thenReturn(List.of(
+                transition(1L, 5L, true, true),
+                transition(2L, 5L, false, false),
+                transition(3L, statusId, false, true)));
+
+        BulkTaskStatusResultDto result = taskService.updateTaskStatuses(BulkTaskStatusRequest.builder()
+                .statusId(statusId).taskIds(List.of(1L, 2L, 3L, 4L)).build());
+
+        assertEquals(List.of(1L), result.getChanged());
+        assertEquals(List.of(3L), result.getUnchanged());
+        assertEquals(List.of(2L, 4L), result.getRejected().stream().map(Rejection::getTaskId).toList());
+        verify(storyProgress).onTasksStatusChanged(any(), eq(statusId));
+        verify(cacheInvalidator).onTasksChanged(eq(Mutation.STATUS_CHANGE), ArgumentMatchers.argThat(states ->
+                states.size() == 2 && states.stream().anyMatch(s -> "TODO".equals(s.status()))));
+        verify(taskEvents).publish(ArgumentMatchers.<Collection<TaskEvent>>argThat(events -> events.size() == 1
+                && events.iterator().next().taskId().equals(1L)));
+    }
+
+    @Test
+    void updateTaskStatuses_requiresIdsOrAFilter() {
+        when(referenceData.getStatus(statusId)).thenReturn(new Status(statusId, "DONE"));
+
+        assertThrows(BadRequestException.class, () -> taskService.updateTaskStatuses(
+                BulkTaskStatusRequest.builder().statusId(statusId).build()));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void updateTaskStatuses_rejectsAFilterMatchingTooManyTasks() {
+        when(referenceData.getStatus(statusId)).thenReturn(new Status(statusId, "DONE"));
+        when(referenceData.findStatusByName("TODO")).thenReturn(Optional.of(new Status(5L, "TODO")));
+        List<TaskStatusTransition> matched = LongStream.rangeClosed(1, 10_001)
+                .mapToObj(id -> transition(id, 5L, true, true)).toList();
+        when(taskRepository.transitionStatus(isNull(), isNull(), isNull(), eq(5L), eq(statusId), eq(false), any(),
+                eq(10_001))).thenReturn(matched);
+
+        assertThrows(BadRequestException.class, () -> taskService.updateTaskStatuses(
+                BulkTaskStatusRequest.builder().statusId(statusId).currentStatus("TODO").build()));
+        verifyNoInteractions(storyProgress, cacheInvalidator, taskEvents);
+    }
+
+    private TaskStatusTransition transition(Long id, Long previousStatusId, boolean changed, boolean scheduled) {
+        return new TaskStatusTransition(id, previousStatusId, changed, scheduled, 7L, BigDecimal.ONE, userId, "John",
+                null, priorityId);
     }
 
     @Test
     void searchTasks_shouldDelegateToRepository() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(taskRepository.searchTasks(null, null, null, null, pageable))
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), eq(pageable)))
                 .thenReturn(Page.empty());
 
         Page<Task> result = taskService.searchTasks(null, null, null, null, pageable);
@@ -96,13 +249,56 @@ class TaskServiceTest {
     }
 
     @Test
-    void softDeleteTask_shouldSetDeletedTrueAndEvictCache() {
-        Task task = Task.builder().id(1L).isDeleted(false).build();
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+    void searchTasksByText_stripsQueryAndRejectsBlankOnes() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskRepository.findByText("billing report", pageable)).thenReturn(Page.empty());
+
+        assertTrue(taskService.searchTasksByText("  billing report ", pageable).isEmpty());
+        assertThrows(BadRequestException.class, () -> taskService.searchTasksByText(" ", pageable));
+        assertThrows(BadRequestException.class, () -> taskService.searchTasksByText("x".repeat(201), pageable));
+    }
+
+    @Test
+    void filterTasksAfter_shouldReturnNextCursorWhenMoreRowsExist() {
+        Instant now = Instant.now();
+        Task t1 = Task.builder().id(3L).createdAt(now).build();
+        Task t2 = Task.builder().id(2L).createdAt(now.minusSeconds(1)).build();
+        Task t3 = Task.builder().id(1L).createdAt(now.minusSeconds(2)).build();
+        when(taskRepository.findAfter(any(), isNull(), eq(3)))
+                .thenReturn(List.of(t1, t2, t3));
+
+        CursorPage<Task> result = taskService.filterTasksAfter(null, null, null, null, 2);
+
+        assertEquals(List.of(t1, t2), result.getContent());
+        assertEquals(TaskCursor.of(t2), TaskCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void filterTasksAfter_lastPageHasNoCursor() {
+        TaskCursor cursor = new TaskCursor(Instant.now(), 5L);
+        when(taskRepository.findAfter(any(), eq(cursor), eq(11)))
+                .thenReturn(List.of(Task.builder().id(4L).build()));
+
+        CursorPage<Task> result = taskService.filterTasksAfter(null, "TODO", null, cursor, 10);
+
+        assertEquals(1, result.getSize());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void softDeleteTask_delegatesToSoftDeleteService() {
+        when(softDeleteService.deleteTasks(List.of(1L))).thenReturn(new SoftDeleteResultDto(0, 0, 1));
 
         taskService.softDeleteTask(1L);
-        assertTrue(task.isDeleted());
-        assertNotNull(task.getUpdatedAt());
+
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    void softDeleteTask_unknownIdThrowsNotFound() {
+        when(softDeleteService.deleteTasks(List.of(1L))).thenReturn(new SoftDeleteResultDto(0, 0, 0));
+        when(taskRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.softDeleteTask(1L));
     }
 }
@@ -0,0 +1,123 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.domain.*;
+import com.rohit.task_manager.respository.TaskRepository;
+import com.rohit.task_manager.respository.TaskStatusTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIf("postgresAvailable")
+class TaskStatusTransitionTest extends AbstractPostgresTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Status todo;
+    private Status inProgress;
+    private Status done;
+    private Story story;
+    private Task unscheduled;
+    private Task scheduled;
+    private Task started;
+    private Task deleted;
+
+    @BeforeEach
+    void setUp() {
+        todo = entityManager.persist(new Status("TODO"));
+        inProgress = entityManager.persist(new Status("IN_PROGRESS"));
+        done = entityManager.persist(new Status("DONE"));
+        Priority high = entityManager.persist(new Priority("HIGH"));
+        User user = entityManager.persist(User.builder().firstName("Rohit").lastName("Sharma")
+                .email("rohit@example.com").timeZone("Asia/Kolkata").build());
+        story = entityManager.persist(Story.builder().title("Story").description("desc").storyPoints(3)
+                .assignedTo(user).status(todo).priority(high).createdAt(Instant.now()).build());
+
+        unscheduled = entityManager.persist(task(todo, null, false, user, high));
+        scheduled = entityManager.persist(task(todo, Instant.now(), false, user, high));
+        started = entityManager.persist(task(inProgress, Instant.now(), false, user, high));
+        deleted = entityManager.persist(task(todo, Instant.now(), true, user, high));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void transitionStatus_byIds_appliesInProgressRuleAndSkipsDeletedTasks() {
+        List<TaskStatusTransition> rows = taskRepository.transitionStatus(
+                List.of(unscheduled.getId(), scheduled.getId(), started.getId(), deleted.getId()),
+                null, null, null, inProgress.getId(), true, Instant.now(), 10);
+
+        assertEquals(List.of(unscheduled.getId(), scheduled.getId(), started.getId()),
+                rows.stream().map(TaskStatusTransition::id).toList());
+        assertFalse(rows.get(0).changed());
+        assertFalse(rows.get(0).scheduled());
+        assertTrue(rows.get(1).changed());
+        assertEquals(todo.getId(), rows.get(1).previousStatusId());
+        assertEquals(story.getId(), rows.get(1).storyId());
+        assertEquals("Rohit", rows.get(1).assignedToFirstName());
+        assertFalse(rows.get(2).changed());
+
+        entityManager.clear();
+        assertEquals("IN_PROGRESS", entityManager.find(Task.class, scheduled.getId()).getStatus().getName());
+        assertEquals("TODO", entityManager.find(Task.class, unscheduled.getId()).getStatus().getName());
+        assertNotNull(entityManager.find(Task.class, scheduled.getId()).getUpdatedAt());
+        assertEquals(1L, entityManager.find(Task.class, scheduled.getId()).getVersion());
+        assertEquals(0L, entityManager.find(Task.class, unscheduled.getId()).getVersion());
+    }
+
+    @Test
+    void compareAndSetStatus_bindsAnAbsentVersionAsAnyVersion() {
+        assertEquals(1, taskRepository.compareAndSetStatus(scheduled.getId(), todo.getId(), null, done, Instant.now()));
+        assertEquals(0, taskRepository.compareAndSetStatus(started.getId(), inProgress.getId(), 5L, done, Instant.now()));
+        assertEquals(1, taskRepository.compareAndSetStatus(started.getId(), inProgress.getId(), 0L, done, Instant.now()));
+    }
+
+    @Test
+    void estimateLiveCount_readsThePlannerEstimate() {
+        entityManager.getEntityManager().createNativeQuery("ANALYZE task").executeUpdate();
+
+        assertEquals(3, taskRepository.estimateLiveCount());
+    }
+
+    @Test
+    void transitionStatus_byFilter_movesOnlyMatchingTasks() {
+        List<TaskStatusTransition> rows = taskRepository.transitionStatus(
+                null, null, story.getId(), todo.getId(), done.getId(), false, Instant.now(), 10);
+
+        assertEquals(List.of(unscheduled.getId(), scheduled.getId()),
+                rows.stream().filter(TaskStatusTransition::changed).map(TaskStatusTransition::id).toList());
+        assertEquals(2, rows.size());
+
+        entityManager.clear();
+        assertEquals("IN_PROGRESS", entityManager.find(Task.class, started.getId()).getStatus().getName());
+        assertEquals("TODO", entityManager.find(Task.class, deleted.getId()).getStatus().getName());
+    }
+
+    @Test
+    void transitionStatus_selectsAtMostLimitTasks() {
+        List<TaskStatusTransition> rows = taskRepository.transitionStatus(
+                null, null, story.getId(), todo.getId(), done.getId(), false, Instant.now(), 1);
+
+        assertEquals(List.of(unscheduled.getId()), rows.stream().map(TaskStatusTransition::id).toList());
+        entityManager.clear();
+        assertEquals("TODO", entityManager.find(Task.class, scheduled.getId()).getStatus().getName());
+    }
+
+    private Task task(Status status, Instant start, boolean isDeleted, User user, Priority priority) {
+        return Task.builder().title("Task").estimatedHours(BigDecimal.ONE).story(story).assignedTo(user)
+                .status(status).priority(priority).createdAt(Instant.now())
+                .expectedStartDateTime(start).expectedEndDateTime(start)
+                .isDeleted(isDeleted).build();
+    }
+}
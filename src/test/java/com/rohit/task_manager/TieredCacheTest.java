@@ -0,0 +1,122 @@
+package com.rohit.task_manager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rohit.task_manager.cache.EntryWeigher;
+import com.rohit.task_manager.cache.TieredCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredCacheTest {
+
+    @Test
+    void remoteHit_isPromotedToLocalTier() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("remote", false);
+        remote.put("key", "value");
+        TieredCache cache = new TieredCache("test", Caffeine.newBuilder().recordStats().build(), remote);
+
+        assertEquals("value", cache.get("key").get());
+        assertEquals("value", cache.getNativeCache().getIfPresent("key"));
+    }
+
+    @Test
+    void putAndEvict_applyToBothTiers() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("remote", false);
+        TieredCache cache = new TieredCache("test", Caffeine.newBuilder().build(), remote);
+
+        cache.put("key", "value");
+        assertNotNull(remote.get("key"));
+
+        cache.evict("key");
+        assertNull(remote.get("key"));
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    void get_withLoader_loadsOnceAndRecordsStats() {
+        TieredCache cache = new TieredCache("test", Caffeine.newBuilder().recordStats().build(), null);
+
+        assertEquals("loaded", cache.get("key", () -> "loaded"));
+        assertEquals("loaded", cache.get("key", () -> "reloaded"));
+        assertEquals(1, cache.getNativeCache().stats().hitCount());
+        assertEquals(1, cache.getNativeCache().stats().missCount());
+    }
+
+    @Test
+    void get_withLoader_concurrentCallersShareOneLoad() throws Exception {
+        TieredCache cache = new TieredCache("test", Caffeine.newBuilder().build(), null);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            releaseLoader.await();
+            return "loaded";
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> cache.get("key", loader));
+            loaderStarted.await();
+            Future<String> second = executor.submit(() -> cache.get("key", loader));
+            releaseLoader.countDown();
+
+            assertEquals("loaded", first.get(5, TimeUnit.SECONDS));
+            assertEquals("loaded", second.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_withLoader_doesNotCacheALoadEvictedWhileRunning() throws Exception {
+        ConcurrentMapCache remote = new ConcurrentMapCache("remote", false);
+        TieredCache cache = new TieredCache("test", Caffeine.newBuilder().build(), remote);
+
+        assertEquals("old", loadBlocked(cache, () -> cache.evict("key")));
+        assertNull(cache.get("key"));
+        assertNull(remote.get("key"));
+        assertEquals("new", cache.get("key", () -> "new"));
+    }
+
+    @Test
+    void get_withLoader_doesNotCacheALoadClearedWhileRunning() throws Exception {
+        TieredCache cache = new TieredCache("test", Caffeine.newBuilder().build(), null);
+
+        assertEquals("old", loadBlocked(cache, cache::clear));
+        assertNull(cache.get("key"));
+    }
+
+    /**
+     * Loads "old" for "key", running {@code whileLoading} while the loader is blocked.
+     */
+    private static Object loadBlocked(TieredCache cache, Runnable whileLoading) throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> load = executor.submit(() -> cache.get("key", () -> {
+                loaderStarted.countDown();
+                releaseLoader.await();
+                return "old";
+            }));
+            loaderStarted.await();
+            whileLoading.run();
+            releaseLoader.countDown();
+            return load.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void weigher_countsRowsInPages() {
+        EntryWeigher weigher = new EntryWeigher();
+
+        assertEquals(3, weigher.weigh("k", new PageImpl<>(List.of(1, 2, 3))));
+        assertEquals(1, weigher.weigh("k", List.of()));
+        assertEquals(1, weigher.weigh("k", "value"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.rohit.task_manager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rohit.task_manager.cache.TieredCache;
+import com.rohit.task_manager.domain.User;
+import com.rohit.task_manager.respository.UserRepository;
+import com.rohit.task_manager.service.UserCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UUID userId = UUID.randomUUID();
+    private UserCache userCache;
+    private TieredCache users;
+
+    @BeforeEach
+    void setUp() {
+        users = cache("usersCache");
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(users, cache("missingUsersCache")));
+        cacheManager.afterPropertiesSet();
+        userCache = new UserCache(userRepository, cacheManager);
+    }
+
+    @Test
+    void findActive_queriesOncePerUser() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user(false)));
+
+        assertTrue(userCache.findActive(userId).isPresent());
+        assertTrue(userCache.findActive(userId).isPresent());
+        verify(userRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    void findActive_answersSoftDeletedUsersFromTheCache() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user(true)));
+
+        assertTrue(userCache.findActive(userId).isEmpty());
+        assertTrue(userCache.find(userId).isPresent());
+        verify(userRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    void find_remembersUnknownIdsApartFromUsers() {
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertTrue(userCache.find(userId).isEmpty());
+        assertTrue(userCache.find(userId).isEmpty());
+        verify(userRepository, times(1)).findById(userId);
+        assertEquals(0, users.getNativeCache().estimatedSize());
+    }
+
+    @Test
+    void evict_reloadsTheUser() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user(false))).thenReturn(Optional.of(user(true)));
+        assertTrue(userCache.findActive(userId).isPresent());
+
+        userCache.evict(List.of(userId));
+
+        assertTrue(userCache.findActive(userId).isEmpty());
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    private User user(boolean deleted) {
+        return User.builder().id(userId).firstName("Rohit").lastName("Sharma").email("rohit@example.com")
+                .timeZone("Asia/Kolkata").isDeleted(deleted).build();
+    }
+
+    private static TieredCache cache(String name) {
+        return new TieredCache(name, Caffeine.newBuilder().maximumSize(100).build(), null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.rohit.task_manager;
+
+import com.rohit.task_manager.respository.UserRepository;
+import com.rohit.task_manager.service.UserEmailFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserEmailFilterTest {
+
+    @Test
+    void add_growsTheFilterOffTheCallingThread() throws Exception {
+        UserRepository userRepository = mock(UserRepository.class);
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        when(userRepository.findAllEmails()).thenReturn(List.of()).thenAnswer(invocation -> {
+            reloading.countDown();
+            releaseReload.await();
+            return List.of("a@example.com", "b@example.com", "c@example.com");
+        });
+        UserEmailFilter filter = new UserEmailFilter(userRepository, new SimpleMeterRegistry(), true, 2, 0.01);
+        filter.rebuild();
+        try {
+            filter.add("a@example.com");
+            filter.add("b@example.com");
+            filter.add("c@example.com");
+            assertTrue(reloading.await(5, TimeUnit.SECONDS));
+
+            // the full filter keeps answering while the larger one is built
+            assertFalse(filter.isTaken("d@example.com"));
+            filter.add("d@example.com");
+            releaseReload.countDown();
+
+            verify(userRepository, timeout(5000).times(2)).findAllEmails();
+            verify(userRepository, never()).existsByEmail("d@example.com");
+        } finally {
+            releaseReload.countDown();
+            filter.shutdown();
+        }
+    }
+}
@@ -2,14 +2,21 @@ package com.rohit.task_manager;
 
 import com.rohit.task_manager.domain.User;
 import com.rohit.task_manager.dto.input.UserCreateRequest;
+import com.rohit.task_manager.dto.output.SoftDeleteResultDto;
 import com.rohit.task_manager.dto.output.UserDto;
 import com.rohit.task_manager.exception.BadRequestException;
 import com.rohit.task_manager.respository.UserRepository;
+import com.rohit.task_manager.service.SoftDeleteService;
+import com.rohit.task_manager.service.UserCache;
+import com.rohit.task_manager.service.UserEmailFilter;
 import com.rohit.task_manager.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +28,15 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SoftDeleteService softDeleteService;
+
+    @Mock
+    private UserEmailFilter emailFilter;
+
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -53,7 +69,7 @@ class UserServiceTest {
                 .timeZone("Asia/Kolkata")
                 .build();
 
-        when(userRepository.findByEmail("rohit@example.com")).thenReturn(Optional.empty());
+        when(emailFilter.isTaken("rohit@example.com")).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         UserDto result = userService.createUser(request);
@@ -61,6 +77,21 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals("rohit@example.com", result.getEmail());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(emailFilter).add("rohit@example.com");
+    }
+
+    @Test
+    void createUser_concurrentDuplicate_rejectedByUniqueConstraint() {
+        UserCreateRequest request = UserCreateRequest.builder()
+                .firstName("Rohit")
+                .email("rohit@example.com")
+                .build();
+
+        when(emailFilter.isTaken("rohit@example.com")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("uk_users_email"));
+
+        assertThrows(BadRequestException.class, () -> userService.createUser(request));
+        verify(emailFilter, never()).add(any());
     }
 
     @Test
@@ -70,7 +101,7 @@ class UserServiceTest {
                 .email("rohit@example.com")
                 .build();
 
-        when(userRepository.findByEmail("rohit@example.com")).thenReturn(Optional.of(user));
+        when(emailFilter.isTaken("rohit@example.com")).thenReturn(true);
 
         assertThrows(BadRequestException.class, () -> userService.createUser(request));
         verify(userRepository, never()).save(any());
@@ -78,7 +109,7 @@ class UserServiceTest {
 
     @Test
     void getUserById_successful() {
-        when(userRepository.getUserById(userId)).thenReturn(Optional.of(user));
+        when(userCache.findActive(userId)).thenReturn(Optional.of(user));
 
         UserDto result = userService.getUserById(userId);
 
@@ -89,25 +120,22 @@ class UserServiceTest {
 
     @Test
     void getUserById_notFound_throwsException() {
-        when(userRepository.getUserById(userId)).thenReturn(Optional.empty());
+        when(userCache.findActive(userId)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> userService.getUserById(userId));
     }
 
     @Test
-    void softDeleteUser_setsDeletedTrue() {
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenReturn(user);
-
-        userService.softDeleteUser(userId);
+    void softDeleteUser_cascadesThroughSoftDeleteService() {
+        SoftDeleteResultDto cascade = new SoftDeleteResultDto(1, 2, 5);
+        when(softDeleteService.deleteUsers(List.of(userId))).thenReturn(cascade);
 
-        assertTrue(user.isDeleted());
-        verify(userRepository).save(user);
+        assertEquals(cascade, userService.softDeleteUser(userId));
     }
 
     @Test
     void softDeleteUser_notFound_throwsException() {
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(softDeleteService.deleteUsers(List.of(userId))).thenReturn(new SoftDeleteResultDto(0, 0, 0));
 
         assertThrows(EntityNotFoundException.class, () -> userService.softDeleteUser(userId));
     }